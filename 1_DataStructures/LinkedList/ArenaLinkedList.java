@@ -0,0 +1,426 @@
+/**
+ * Linked list stored in parallel int arrays (node arena)
+ *
+ * Instead of one Node object per element, node i lives in data[i] and next[i],
+ * and links are array indices rather than references. Slots freed by a remove
+ * go onto a free list (chained through next[]) and are reused by the next add,
+ * so once the arrays are big enough, adding and removing allocates nothing.
+ *
+ * NIL (-1) plays the role of null.
+ *
+ * Time Complexity:
+ * - addFirst / addLast: O(1) amortized (the arrays double when full)
+ * - removeFirst: O(1)
+ * - removeLast / add(index, data) / search: O(n)
+ * - mergeSort: O(n log n)
+ */
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+public class ArenaLinkedList {
+    private static final int NIL = -1;
+
+    private int[] data; // data[i] is the value stored in slot i
+    private int[] next; // next[i] is the slot after slot i, or NIL
+    private int head = NIL; // Slot of the first node
+    private int tail = NIL; // Slot of the last node
+    private int size; // Number of nodes in the list
+    private int freeList = NIL; // First recycled slot, chained through next[]
+    private int used; // Slots [0, used) have been handed out at least once
+
+    public ArenaLinkedList() {
+        this(16);
+    }
+
+    public ArenaLinkedList(int initialCapacity) {
+        data = new int[Math.max(1, initialCapacity)];
+        next = new int[data.length];
+    }
+
+    /**
+     * Takes a slot from the free list, or a fresh one, growing the arrays if needed
+     * Time Complexity: O(1) amortized
+     */
+    private int allocate(int value) {
+        int slot;
+        if (freeList != NIL) {
+            slot = freeList;
+            freeList = next[slot];
+        } else {
+            if (used == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+                next = Arrays.copyOf(next, next.length * 2);
+            }
+            slot = used++;
+        }
+        data[slot] = value;
+        next[slot] = NIL;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Returns a slot to the free list
+     * Time Complexity: O(1)
+     */
+    private void release(int slot) {
+        next[slot] = freeList;
+        freeList = slot;
+        size--;
+    }
+
+    /**
+     * Adds a new node at the beginning of the list
+     * Time Complexity: O(1) amortized
+     */
+    public void addFirst(int value) {
+        int slot = allocate(value);
+        if (head == NIL) {
+            head = tail = slot;
+            return;
+        }
+        next[slot] = head;
+        head = slot;
+    }
+
+    /**
+     * Adds a new node at the end of the list
+     * Time Complexity: O(1) amortized
+     */
+    public void addLast(int value) {
+        int slot = allocate(value);
+        if (head == NIL) {
+            head = tail = slot;
+            return;
+        }
+        next[tail] = slot;
+        tail = slot;
+    }
+
+    /**
+     * Adds a new node at the specified index
+     * Time Complexity: O(n)
+     */
+    public void add(int index, int value) {
+        if (index == 0) {
+            addFirst(value);
+            return;
+        }
+        if (index == size) {
+            addLast(value);
+            return;
+        }
+
+        // Find the slot at index-1 before allocating, since allocate may grow the arrays
+        int previous = head;
+        for (int i = 0; i < index - 1; i++) {
+            previous = next[previous];
+        }
+
+        int slot = allocate(value);
+        next[slot] = next[previous];
+        next[previous] = slot;
+    }
+
+    /**
+     * Removes the first node from the list
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        int slot = head;
+        int value = data[slot];
+        head = next[slot];
+        if (head == NIL) {
+            tail = NIL;
+        }
+        release(slot);
+        return value;
+    }
+
+    /**
+     * Removes the last node from the list
+     * Time Complexity: O(n)
+     *
+     * @return the data of the removed node
+     */
+    public int removeLast() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        if (size == 1) {
+            return removeFirst();
+        }
+
+        // Find the second-to-last slot
+        int previous = head;
+        for (int i = 0; i < size - 2; i++) {
+            previous = next[previous];
+        }
+
+        int slot = tail;
+        int value = data[slot];
+        next[previous] = NIL;
+        tail = previous;
+        release(slot);
+        return value;
+    }
+
+    /**
+     * Searches for a key
+     * Time Complexity: O(n)
+     *
+     * @return index of the key if found, -1 otherwise
+     */
+    public int iterativeSearch(int key) {
+        int index = 0;
+        for (int current = head; current != NIL; current = next[current]) {
+            if (data[current] == key) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses the list
+     * Time Complexity: O(n)
+     */
+    public void reverse() {
+        int previous = NIL;
+        int current = head;
+        tail = head;
+        while (current != NIL) {
+            int following = next[current];
+            next[current] = previous;
+            previous = current;
+            current = following;
+        }
+        head = previous;
+    }
+
+    /**
+     * Merges two sorted chains of slots without a dummy node
+     * Time Complexity: O(n+m)
+     *
+     * @return the first slot of the merged chain
+     */
+    private int mergeSortedLists(int list1, int list2) {
+        int mergedHead = NIL;
+        int current = NIL;
+
+        while (list1 != NIL && list2 != NIL) {
+            int smaller;
+            if (data[list1] <= data[list2]) {
+                smaller = list1;
+                list1 = next[list1];
+            } else {
+                smaller = list2;
+                list2 = next[list2];
+            }
+            if (current == NIL) {
+                mergedHead = smaller;
+            } else {
+                next[current] = smaller;
+            }
+            current = smaller;
+        }
+
+        // Attach whatever remains of either chain
+        int rest = list1 != NIL ? list1 : list2;
+        if (current == NIL) {
+            return rest;
+        }
+        next[current] = rest;
+        return mergedHead;
+    }
+
+    /**
+     * Sorts a chain of slots using merge sort
+     * Time Complexity: O(n log n)
+     */
+    private int mergeSort(int start) {
+        if (start == NIL || next[start] == NIL) {
+            return start;
+        }
+
+        // Find the middle slot with the slow-fast approach
+        int slow = start;
+        int fast = next[start];
+        while (fast != NIL && next[fast] != NIL) {
+            slow = next[slow];
+            fast = next[next[fast]];
+        }
+
+        int rightHalf = next[slow];
+        next[slow] = NIL;
+        return mergeSortedLists(mergeSort(start), mergeSort(rightHalf));
+    }
+
+    /**
+     * Sorts the list in place and fixes up tail
+     * Time Complexity: O(n log n)
+     */
+    public void mergeSort() {
+        head = mergeSort(head);
+        tail = head;
+        while (tail != NIL && next[tail] != NIL) {
+            tail = next[tail];
+        }
+    }
+
+    /**
+     * Rearranges the list in a zigzag pattern: first, last, second, second-to-last, ...
+     * Time Complexity: O(n)
+     */
+    public void zigZag() {
+        if (head == NIL || next[head] == NIL) {
+            return;
+        }
+
+        // Step 1: Find the middle slot
+        int slow = head;
+        int fast = next[head];
+        while (fast != NIL && next[fast] != NIL) {
+            slow = next[slow];
+            fast = next[next[fast]];
+        }
+
+        // Step 2: Reverse the second half
+        int current = next[slow];
+        next[slow] = NIL;
+        int previous = NIL;
+        while (current != NIL) {
+            int following = next[current];
+            next[current] = previous;
+            previous = current;
+            current = following;
+        }
+
+        // Step 3: Merge the two halves alternately
+        int left = head;
+        int right = previous;
+        int last = left;
+        while (left != NIL && right != NIL) {
+            int nextLeft = next[left];
+            int nextRight = next[right];
+            next[left] = right;
+            next[right] = nextLeft;
+            last = nextLeft != NIL ? nextLeft : right;
+            left = nextLeft;
+            right = nextRight;
+        }
+        tail = last;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Prints all elements of the list
+     * Time Complexity: O(n)
+     */
+    public void print() {
+        for (int current = head; current != NIL; current = next[current]) {
+            System.out.print(data[current] + "->");
+        }
+        System.out.println("null");
+    }
+
+    /**
+     * Measures bytes allocated per push/pop pair once the list has reached a
+     * steady size, for this arena list and for LinkedList. Uses the HotSpot
+     * per-thread allocation counter, which is the number JMH -prof gc reports.
+     */
+    public static void compareAllocation(int steadySize, int operations) {
+        System.out.println("\n===== Allocation per push/pop (steady size " + steadySize + ") =====\n");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        ArenaLinkedList arena = new ArenaLinkedList();
+        LinkedList nodes = new LinkedList();
+        for (int i = 0; i < steadySize; i++) {
+            arena.addLast(i);
+            nodes.addLast(i);
+        }
+
+        // Warm up so JIT compilation does not show up in the counters
+        long sink = 0;
+        for (int i = 0; i < operations; i++) {
+            arena.addLast(i);
+            sink += arena.removeFirst();
+            nodes.addLast(i);
+            sink += nodes.removeFirst();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            arena.addLast(i);
+            sink += arena.removeFirst();
+        }
+        long arenaTime = System.nanoTime() - startTime;
+        long arenaBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        startTime = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            nodes.addLast(i);
+            sink += nodes.removeFirst();
+        }
+        long nodesTime = System.nanoTime() - startTime;
+        long nodesBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.println("ArenaLinkedList: " + String.format("%.3f", (double) arenaBytes / operations)
+                + " bytes/op, " + arenaTime / 1000000.0 + " ms");
+        System.out.println("LinkedList:      " + String.format("%.3f", (double) nodesBytes / operations)
+                + " bytes/op, " + nodesTime / 1000000.0 + " ms");
+        if (sink == 42) {
+            System.out.println(); // Keeps the JIT from dropping the loops
+        }
+    }
+
+    public static void main(String args[]) {
+        ArenaLinkedList list = new ArenaLinkedList(4);
+        list.addFirst(2);
+        list.addFirst(1);
+        list.addLast(3);
+        list.addLast(4);
+        list.add(2, 10);
+        list.print(); // Expected: 1->2->10->3->4->null
+        System.out.println("Element 10 found at index: " + list.iterativeSearch(10)); // Expected: 2
+
+        System.out.println("Removed first element: " + list.removeFirst()); // Expected: 1
+        System.out.println("Removed last element: " + list.removeLast()); // Expected: 4
+        list.print(); // Expected: 2->10->3->null
+
+        list.reverse();
+        list.print(); // Expected: 3->10->2->null
+
+        list.addLast(7);
+        list.addLast(1);
+        list.mergeSort();
+        list.print(); // Expected: 1->2->3->7->10->null
+
+        list.zigZag();
+        list.print(); // Expected: 1->10->2->7->3->null
+        list.addLast(99);
+        list.print(); // Expected: 1->10->2->7->3->99->null (tail kept correct)
+
+        compareAllocation(1000, 10000000);
+    }
+}
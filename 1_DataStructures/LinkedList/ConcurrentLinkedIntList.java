@@ -0,0 +1,367 @@
+/**
+ * Lock-free linked list of ints (Michael-Scott queue)
+ *
+ * This class shows how several threads can add and remove nodes without
+ * a global lock. Every update is a single compare-and-set (CAS) on one
+ * reference; a thread whose CAS fails simply re-reads the list and retries.
+ *
+ * The list always starts with a dummy node: head points to the dummy and
+ * the first real element is head.next. removeFirst turns the removed node
+ * into the new dummy, so head and tail never become null.
+ *
+ * Time Complexity (without contention):
+ * - addFirst: O(1)
+ * - addLast: O(1)
+ * - removeFirst: O(1)
+ * - size: O(1)
+ */
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class ConcurrentLinkedIntList {
+    /**
+     * Node class represents each element in the list
+     */
+    static class Node {
+        final int data;
+        volatile Node next;
+
+        Node(int data) {
+            this.data = data;
+            this.next = null;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater
+            .newUpdater(Node.class, Node.class, "next");
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedIntList, Node> HEAD = AtomicReferenceFieldUpdater
+            .newUpdater(ConcurrentLinkedIntList.class, Node.class, "head");
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedIntList, Node> TAIL = AtomicReferenceFieldUpdater
+            .newUpdater(ConcurrentLinkedIntList.class, Node.class, "tail");
+
+    private volatile Node head; // Dummy node before the first element
+    private volatile Node tail; // Last node, or a node just before it
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentLinkedIntList() {
+        Node dummy = new Node(0);
+        head = tail = dummy;
+    }
+
+    /**
+     * Adds a new node at the end of the list
+     * Time Complexity: O(1)
+     */
+    public void addLast(int data) {
+        Node newNode = new Node(data);
+
+        while (true) {
+            Node last = tail;
+            Node next = last.next;
+
+            if (last != tail) {
+                continue; // tail moved while we were reading it
+            }
+
+            if (next == null) {
+                // Step 1: Link the new node after the real last node
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // Step 2: Swing tail forward (another thread may do it for us)
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.incrementAndGet();
+                    return;
+                }
+            } else {
+                // tail is lagging behind, help move it forward and retry
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Adds a new node at the beginning of the list
+     * Time Complexity: O(1)
+     */
+    public void addFirst(int data) {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+
+            if (first != head) {
+                continue; // head moved while we were reading it
+            }
+
+            if (next == null) {
+                // Empty list: adding at the front is the same as adding at the end
+                addLast(data);
+                return;
+            }
+
+            if (first == last) {
+                // tail is lagging on the dummy, help move it before replacing the dummy
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+
+            // Build dummy -> newNode -> next and swap it in with one CAS on head.
+            // A non-null next pointer never changes again, so next is still valid.
+            Node newNode = new Node(data);
+            newNode.next = next;
+            Node newDummy = new Node(0);
+            newDummy.next = newNode;
+
+            if (HEAD.compareAndSet(this, first, newDummy)) {
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the first node from the list
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node, or Integer.MIN_VALUE if the list is empty
+     */
+    public int removeFirst() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+
+            if (first != head) {
+                continue; // head moved while we were reading it
+            }
+
+            if (next == null) {
+                return Integer.MIN_VALUE; // Empty list
+            }
+
+            if (first == last) {
+                // tail is lagging on the dummy, help move it forward and retry
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+
+            // Read the value before the CAS; next becomes the new dummy
+            int value = next.data;
+            if (HEAD.compareAndSet(this, first, next)) {
+                size.decrementAndGet();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Checks if the list is empty
+     * Time Complexity: O(1)
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * While other threads are updating, this is only a snapshot.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Prints all elements of the list
+     * Time Complexity: O(n)
+     */
+    public void print() {
+        Node current = head.next;
+        while (current != null) {
+            System.out.print(current.data + "->");
+            current = current.next;
+        }
+        System.out.println("null");
+    }
+
+    /**
+     * Runs producers and consumers at the same time and checks that every
+     * value added is removed exactly once. Even producers use addLast, so their
+     * values must also come out in the order they were added; odd producers use
+     * addFirst to exercise the head CAS.
+     */
+    public static void stressTest(int producers, int consumers, int perProducer) throws InterruptedException {
+        System.out.println("\n===== Stress Test =====\n");
+        System.out.println(producers + " producers x " + perProducer + " values, " + consumers + " consumers");
+
+        ConcurrentLinkedIntList list = new ConcurrentLinkedIntList();
+        int total = producers * perProducer;
+        int[] seen = new int[total];
+        AtomicInteger removed = new AtomicInteger();
+        AtomicInteger orderErrors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+
+        // Value = producer * perProducer + sequence, so each value is unique
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            final boolean atFront = p % 2 == 1;
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    if (atFront) {
+                        list.addFirst(base + i);
+                    } else {
+                        list.addLast(base + i);
+                    }
+                }
+            });
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                awaitQuietly(start);
+                int[] lastSeen = new int[producers];
+                java.util.Arrays.fill(lastSeen, -1);
+                while (removed.get() < total) {
+                    int value = list.removeFirst();
+                    if (value == Integer.MIN_VALUE) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    // Values from one addLast producer must reach one consumer in increasing order
+                    int producer = value / perProducer;
+                    if (producer % 2 == 0 && value <= lastSeen[producer]) {
+                        orderErrors.incrementAndGet();
+                    }
+                    lastSeen[producer] = value;
+                    synchronized (seen) {
+                        seen[value]++;
+                    }
+                    removed.incrementAndGet();
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int missing = 0;
+        int duplicates = 0;
+        for (int count : seen) {
+            if (count == 0) {
+                missing++;
+            } else if (count > 1) {
+                duplicates++;
+            }
+        }
+
+        System.out.println("Removed: " + removed.get() + " / " + total);
+        System.out.println("Missing: " + missing + ", duplicates: " + duplicates + ", order errors: " + orderErrors.get());
+        System.out.println("Empty at end: " + list.isEmpty() + ", size: " + list.size());
+        System.out.println(missing == 0 && duplicates == 0 && orderErrors.get() == 0 && list.isEmpty()
+                ? "PASSED" : "FAILED");
+    }
+
+    /**
+     * Measures throughput of many threads appending and removing, comparing this
+     * lock-free list with a LinkedList guarded by synchronized (list).
+     */
+    public static void compareThroughput(int threads, int opsPerThread) throws InterruptedException {
+        System.out.println("\n===== Throughput Comparison (" + threads + " threads) =====\n");
+
+        ConcurrentLinkedIntList lockFree = new ConcurrentLinkedIntList();
+        LinkedList locked = new LinkedList();
+
+        // Warm up both paths so the JIT has compiled them before timing
+        for (int round = 0; round < 3; round++) {
+            runWorkers(threads, opsPerThread / 10, lockFree::addLast, lockFree::removeFirst);
+            runWorkers(threads, opsPerThread / 10, value -> {
+                synchronized (locked) {
+                    locked.addLast(value);
+                }
+            }, () -> {
+                synchronized (locked) {
+                    return locked.removeFirst();
+                }
+            });
+        }
+
+        long lockFreeTime = runWorkers(threads, opsPerThread, lockFree::addLast, lockFree::removeFirst);
+        long lockedTime = runWorkers(threads, opsPerThread, value -> {
+            synchronized (locked) {
+                locked.addLast(value);
+            }
+        }, () -> {
+            synchronized (locked) {
+                return locked.removeFirst();
+            }
+        });
+
+        long totalOps = 2L * threads * opsPerThread;
+        System.out.println("Lock-free list:     " + lockFreeTime / 1000000.0 + " ms ("
+                + (long) (totalOps * 1e9 / lockFreeTime) + " ops/s)");
+        System.out.println("synchronized list:  " + lockedTime / 1000000.0 + " ms ("
+                + (long) (totalOps * 1e9 / lockedTime) + " ops/s)");
+    }
+
+    /**
+     * Starts the given number of threads; each adds opsPerThread values and then
+     * removes opsPerThread values. Returns the elapsed time in nanoseconds.
+     */
+    private static long runWorkers(int threads, int opsPerThread, java.util.function.IntConsumer add,
+            java.util.function.IntSupplier remove) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < opsPerThread; i++) {
+                    add.accept(i);
+                }
+                for (int i = 0; i < opsPerThread; i++) {
+                    remove.getAsInt();
+                }
+            });
+            workers[t].start();
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        ConcurrentLinkedIntList list = new ConcurrentLinkedIntList();
+        list.addLast(2);
+        list.addLast(3);
+        list.addFirst(1);
+        list.print(); // Expected: 1->2->3->null
+        System.out.println("Removed first element: " + list.removeFirst()); // Expected: 1
+        list.print(); // Expected: 2->3->null
+        System.out.println("Size: " + list.size()); // Expected: 2
+
+        stressTest(4, 4, 250000);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= Math.max(2, cores); threads *= 2) {
+            compareThroughput(threads, 500000);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+/**
+ * Doubly linked list with head and tail sentinels
+ *
+ * Each node keeps a reference to both its next and its previous node, so
+ * removing from the tail (or removing any node we already hold) no longer
+ * needs a walk from the head to find the previous node.
+ *
+ * The two sentinel nodes never hold data: head.next is the first element and
+ * tail.prev is the last. Because they are always present, insert and remove
+ * never have to special-case an empty list or a single node.
+ *
+ * The operations have the same names and return values as LinkedList, so code
+ * written against LinkedList can switch to this class when it needs a deque.
+ * addFirst/addLast additionally return the new node as a handle for remove(Node).
+ *
+ * Time Complexity:
+ * - addFirst / addLast: O(1)
+ * - removeFirst / removeLast: O(1)
+ * - remove(Node): O(1)
+ * - add(index, data): O(min(index, size - index))
+ */
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class DoublyLinkedList {
+    /**
+     * Node class represents each element in the list
+     */
+    public static class Node {
+        int data;
+        Node prev;
+        Node next;
+        DoublyLinkedList owner; // The list this node is linked into, null once removed
+
+        public Node(int data) {
+            this.data = data;
+            this.prev = null;
+            this.next = null;
+        }
+
+        public int getData() {
+            return data;
+        }
+    }
+
+    private final Node head = new Node(0); // Sentinel before the first element
+    private final Node tail = new Node(0); // Sentinel after the last element
+    private int size; // Tracks the number of nodes in the list
+
+    public DoublyLinkedList() {
+        head.next = tail;
+        tail.prev = head;
+    }
+
+    /**
+     * Links a new node between two adjacent nodes
+     * Time Complexity: O(1)
+     */
+    private Node linkBetween(Node before, Node after, int data) {
+        Node newNode = new Node(data);
+        newNode.prev = before;
+        newNode.next = after;
+        newNode.owner = this;
+        before.next = newNode;
+        after.prev = newNode;
+        size++;
+        return newNode;
+    }
+
+    /**
+     * Unlinks a node from its neighbours
+     * Time Complexity: O(1)
+     */
+    private int unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = null; // Help the GC
+        node.owner = null; // Mark as removed
+        size--;
+        return node.data;
+    }
+
+    /**
+     * Adds a new node at the beginning of the list
+     * Time Complexity: O(1)
+     *
+     * @return the new node, usable as a handle for remove(Node)
+     */
+    public Node addFirst(int data) {
+        return linkBetween(head, head.next, data);
+    }
+
+    /**
+     * Adds a new node at the end of the list
+     * Time Complexity: O(1)
+     *
+     * @return the new node, usable as a handle for remove(Node)
+     */
+    public Node addLast(int data) {
+        return linkBetween(tail.prev, tail, data);
+    }
+
+    /**
+     * Adds a new node at the specified index.
+     * Walks from whichever end is closer.
+     * Time Complexity: O(n)
+     */
+    public void add(int index, int data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node after = index == size ? tail : nodeAt(index);
+        linkBetween(after.prev, after, data);
+    }
+
+    /**
+     * Returns the node at the given index, walking from the closer end
+     * Time Complexity: O(n)
+     */
+    private Node nodeAt(int index) {
+        Node current;
+        if (index < size / 2) {
+            current = head.next;
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+        } else {
+            current = tail.prev;
+            for (int i = size - 1; i > index; i--) {
+                current = current.prev;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Removes the first node from the list
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return unlink(head.next);
+    }
+
+    /**
+     * Removes the last node from the list
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node
+     */
+    public int removeLast() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return unlink(tail.prev);
+    }
+
+    /**
+     * Removes a node previously returned by addFirst/addLast
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node
+     * @throws IllegalArgumentException if the node was already removed or
+     *         belongs to another list
+     */
+    public int remove(Node node) {
+        if (node == null || node.owner != this) {
+            throw new IllegalArgumentException("Node is not part of this list");
+        }
+        return unlink(node);
+    }
+
+    /**
+     * Searches for a key from the front
+     * Time Complexity: O(n)
+     *
+     * @return index of the key if found, -1 otherwise
+     */
+    public int iterativeSearch(int key) {
+        int index = 0;
+        for (Node current = head.next; current != tail; current = current.next) {
+            if (current.data == key) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses the list by swapping prev and next in every node
+     * Time Complexity: O(n)
+     */
+    public void reverse() {
+        if (size < 2) {
+            return; // Nothing to reverse
+        }
+
+        Node oldFirst = head.next;
+        Node oldLast = tail.prev;
+
+        // Swap the links of every real node
+        Node current = oldFirst;
+        while (current != tail) {
+            Node next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            current = next;
+        }
+
+        // Reattach the sentinels to the new ends
+        oldFirst.next = tail;
+        tail.prev = oldFirst;
+        oldLast.prev = head;
+        head.next = oldLast;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Iterates from the first element to the last
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head.next;
+
+            public boolean hasNext() {
+                return current != tail;
+            }
+
+            public int nextInt() {
+                if (current == tail) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Iterates from the last element to the first
+     */
+    public PrimitiveIterator.OfInt descendingIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = tail.prev;
+
+            public boolean hasNext() {
+                return current != head;
+            }
+
+            public int nextInt() {
+                if (current == head) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.prev;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Prints all elements from first to last
+     * Time Complexity: O(n)
+     */
+    public void print() {
+        for (Node current = head.next; current != tail; current = current.next) {
+            System.out.print(current.data + "<->");
+        }
+        System.out.println("null");
+    }
+
+    /**
+     * Prints all elements from last to first
+     * Time Complexity: O(n)
+     */
+    public void printReverse() {
+        for (Node current = tail.prev; current != head; current = current.prev) {
+            System.out.print(current.data + "<->");
+        }
+        System.out.println("null");
+    }
+
+    /**
+     * Compares the cost of removeLast when draining a list from the tail.
+     * LinkedList walks size - 2 nodes per call, so a full drain at 10^6 elements
+     * would take tens of minutes; instead it times the first sampleOps calls on a full
+     * list and reports the average cost per call next to a full drain here.
+     */
+    public static void compareDrainFromTail(int elements, int sampleOps) {
+        System.out.println("\n===== Drain From Tail (" + elements + " elements) =====\n");
+
+        // Warm up both removeLast implementations
+        for (int round = 0; round < 5; round++) {
+            drainDoubly(10000);
+            sampleSingly(10000, 1000);
+        }
+
+        long doublyTime = drainDoubly(elements);
+        long singlyTime = sampleSingly(elements, sampleOps);
+
+        double doublyPerOp = (double) doublyTime / elements;
+        double singlyPerOp = (double) singlyTime / sampleOps;
+        System.out.println("DoublyLinkedList full drain: " + doublyTime / 1000000.0 + " ms ("
+                + String.format("%.1f", doublyPerOp) + " ns/removeLast)");
+        System.out.println("LinkedList first " + sampleOps + " removeLast: " + singlyTime / 1000000.0 + " ms ("
+                + String.format("%.1f", singlyPerOp) + " ns/removeLast)");
+        System.out.println("Estimated LinkedList full drain: "
+                + String.format("%.1f", singlyPerOp * elements / 2 / 1e9) + " s");
+        System.out.println("Speedup per removeLast: " + String.format("%.0fx", singlyPerOp / doublyPerOp));
+    }
+
+    private static long drainDoubly(int elements) {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int i = 0; i < elements; i++) {
+            list.addLast(i);
+        }
+        long sum = 0;
+        long startTime = System.nanoTime();
+        while (!list.isEmpty()) {
+            sum += list.removeLast();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        if (sum == 42) {
+            System.out.println(); // Keeps the JIT from dropping the loop
+        }
+        return elapsed;
+    }
+
+    private static long sampleSingly(int elements, int sampleOps) {
+        LinkedList list = new LinkedList();
+        for (int i = 0; i < elements; i++) {
+            list.addLast(i);
+        }
+        long sum = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < sampleOps; i++) {
+            sum += list.removeLast();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        if (sum == 42) {
+            System.out.println(); // Keeps the JIT from dropping the loop
+        }
+        return elapsed;
+    }
+
+    public static void main(String args[]) {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addFirst(2);
+        list.addFirst(1);
+        Node three = list.addLast(3);
+        list.addLast(4);
+        list.add(2, 10);
+        list.print(); // Expected: 1<->2<->10<->3<->4<->null
+        list.printReverse(); // Expected: 4<->3<->10<->2<->1<->null
+
+        System.out.println("Removed node handle: " + list.remove(three)); // Expected: 3
+        System.out.println("Removed last element: " + list.removeLast()); // Expected: 4
+        System.out.println("Removed first element: " + list.removeFirst()); // Expected: 1
+        list.print(); // Expected: 2<->10<->null
+
+        DoublyLinkedList other = new DoublyLinkedList();
+        Node foreign = other.addLast(7);
+        for (Node node : new Node[] { foreign, three }) { // Another list's node, an already removed node
+            try {
+                list.remove(node);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage()); // Expected: Node is not part of this list
+            }
+        }
+        System.out.println("Sizes: " + list.size() + ", " + other.size()); // Expected: 2, 1
+
+        list.reverse();
+        list.print(); // Expected: 10<->2<->null
+        System.out.println("Size: " + list.size()); // Expected: 2
+
+        compareDrainFromTail(1000000, 500);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Fused single-pass queries over a LinkedList
+ *
+ * Searching, checking for a palindrome or a cycle, finding the middle and
+ * finding the nth node from the end each walk the whole list. When a caller
+ * needs several of them, walking the nodes once and answering all of them
+ * together avoids paying for the pointer chasing several times.
+ *
+ * The scan never modifies the list:
+ * - cycle: Brent's algorithm, using a checkpoint node instead of a second
+ *   fast pointer, so it rides along on the single walk
+ * - middle and nth from end: trailing pointers that follow the walker
+ * - palindrome: values are copied into an int array during the walk and
+ *   compared from both ends afterwards (4 bytes per element, no nodes)
+ *
+ * If the list has a cycle the walk stops as soon as it is detected and only
+ * hasCycle is meaningful.
+ *
+ * Time Complexity: O(n), one pass over the nodes
+ */
+public class FusedListScan {
+    /**
+     * Answers to all queries of one scan
+     */
+    public static class Result {
+        public int length; // Number of nodes (before the cycle was detected, if any)
+        public int searchIndex = -1; // First index of the search key, -1 if absent
+        public boolean hasCycle;
+        public boolean isPalindrome;
+        public LinkedList.Node middle; // Same node as LinkedList.middle()
+        public LinkedList.Node nthFromEnd; // Same node as LinkedList.nthFromEnd(n)
+    }
+
+    /**
+     * Walks the list once and answers every query
+     * Time Complexity: O(n)
+     *
+     * @param searchKey  value to look for
+     * @param nthFromEnd position from the end to report (1 = last node)
+     */
+    public static Result scan(LinkedList list, int searchKey, int nthFromEnd) {
+        Result result = new Result();
+        LinkedList.Node head = list.head;
+        if (head == null) {
+            result.isPalindrome = true;
+            return result;
+        }
+
+        // size is only a hint for the buffer; the walk does its own counting
+        int[] values = new int[Math.max(16, list.size)];
+        int count = 0;
+
+        LinkedList.Node middle = head; // Trails at index count / 2
+        LinkedList.Node trailing = head; // Trails nthFromEnd nodes behind
+
+        // Brent's cycle detection state
+        LinkedList.Node checkpoint = head;
+        int power = 1;
+        int stepsSinceCheckpoint = 0;
+
+        LinkedList.Node current = head;
+        while (current != null) {
+            // Query: search
+            if (result.searchIndex == -1 && current.data == searchKey) {
+                result.searchIndex = count;
+            }
+
+            // Query: palindrome (remember the value)
+            if (count == values.length) {
+                values = java.util.Arrays.copyOf(values, values.length * 2);
+            }
+            values[count] = current.data;
+            count++;
+
+            // Query: middle (advance every second node)
+            if (count % 2 == 0) {
+                middle = middle.next;
+            }
+
+            // Query: nth from end (start trailing once n nodes have been seen)
+            if (count > nthFromEnd) {
+                trailing = trailing.next;
+            }
+
+            // Query: cycle (Brent)
+            current = current.next;
+            if (current == checkpoint) {
+                result.hasCycle = true;
+                result.length = count;
+                return result;
+            }
+            if (++stepsSinceCheckpoint == power) {
+                checkpoint = current;
+                power *= 2;
+                stepsSinceCheckpoint = 0;
+            }
+        }
+
+        result.length = count;
+        result.middle = middle;
+        result.nthFromEnd = nthFromEnd >= 1 && nthFromEnd <= count ? trailing : null;
+
+        boolean palindrome = true;
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            if (values[i] != values[j]) {
+                palindrome = false;
+                break;
+            }
+        }
+        result.isPalindrome = palindrome;
+        return result;
+    }
+
+    public static void main(String args[]) {
+        LinkedList list = new LinkedList();
+        int[] data = { 1, 2, 3, 2, 1 };
+        for (int value : data) {
+            list.addLast(value);
+        }
+
+        Result result = scan(list, 3, 2);
+        System.out.println("Length: " + result.length); // Expected: 5
+        System.out.println("Search 3: " + result.searchIndex); // Expected: 2
+        System.out.println("Is palindrome: " + result.isPalindrome); // Expected: true
+        System.out.println("Has cycle: " + result.hasCycle); // Expected: false
+        System.out.println("Middle: " + result.middle.data); // Expected: 3
+        System.out.println("2nd from end: " + result.nthFromEnd.data); // Expected: 2
+
+        // Create a cycle 1->2->3->2->1->(back to 3)
+        list.tail.next = list.head.next.next;
+        System.out.println("Has cycle: " + scan(list, 7, 1).hasCycle); // Expected: true
+        list.tail.next = null;
+    }
+}
@@ -0,0 +1,362 @@
+/**
+ * Singly linked list with a positional skip index
+ *
+ * The nodes form an ordinary LinkedList chain. On top of it, the list keeps a
+ * small index of "checkpoint" nodes: the chain is cut into blocks of roughly
+ * k consecutive nodes, and for each block we remember its first node and how
+ * many nodes it holds. To reach position i we skip whole blocks using their
+ * sizes, then walk at most 2k nodes inside one block.
+ *
+ * k is kept close to sqrt(size) / WALK_RATIO: a block that grows past 2k is split in two,
+ * an empty block is dropped, and when the number of blocks gets too large
+ * compared to k the whole index is rebuilt with a new k (amortized O(1)).
+ *
+ * Time Complexity (with k ~ sqrt(n)):
+ * - get(index) / add(index, data) / remove(index): O(sqrt(n))
+ * - addFirst / addLast / removeFirst: O(1) amortized
+ * - removeLast / deleteNthFromEnd: O(sqrt(n))
+ * - iterativeSearch: O(n)
+ */
+public class IndexedLinkedList {
+    private static final int MIN_BLOCK_SIZE = 8;
+
+    // Blocks are kept this many times shorter than sqrt(size): skipping a block
+    // reads one int from a small array, while walking a node is a cache miss.
+    private static final int WALK_RATIO = 4;
+
+    private LinkedList.Node head; // Points to the first node
+    private LinkedList.Node tail; // Points to the last node
+    private int size; // Number of nodes in the list
+
+    private LinkedList.Node[] blockStart = new LinkedList.Node[4]; // First node of each block
+    private int[] blockSize = new int[4]; // Number of nodes in each block
+    private int blocks; // Number of blocks in use
+    private int k = MIN_BLOCK_SIZE; // Target block size
+
+    // Result of locate(): the block holding a position and the offset inside it
+    private int foundBlock;
+    private int foundOffset;
+
+    /**
+     * Finds the block containing position index
+     * Time Complexity: O(number of blocks)
+     */
+    private void locate(int index) {
+        int j = 0;
+        while (index >= blockSize[j]) {
+            index -= blockSize[j];
+            j++;
+        }
+        foundBlock = j;
+        foundOffset = index;
+    }
+
+    /**
+     * Walks steps nodes forward from start
+     * Time Complexity: O(steps)
+     */
+    private static LinkedList.Node walk(LinkedList.Node start, int steps) {
+        LinkedList.Node current = start;
+        for (int i = 0; i < steps; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the node at position index
+     * Time Complexity: O(sqrt(n))
+     */
+    private LinkedList.Node nodeAt(int index) {
+        locate(index);
+        return walk(blockStart[foundBlock], foundOffset);
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index > limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the value at position index
+     * Time Complexity: O(sqrt(n))
+     */
+    public int get(int index) {
+        checkIndex(index, size - 1);
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Adds a new node at the beginning of the list
+     * Time Complexity: O(1) amortized
+     */
+    public void addFirst(int data) {
+        add(0, data);
+    }
+
+    /**
+     * Adds a new node at the end of the list
+     * Time Complexity: O(1) amortized
+     */
+    public void addLast(int data) {
+        add(size, data);
+    }
+
+    /**
+     * Adds a new node at the specified index
+     * Time Complexity: O(sqrt(n))
+     */
+    public void add(int index, int data) {
+        checkIndex(index, size);
+        LinkedList.Node newNode = new LinkedList.Node(data);
+
+        if (size == 0) {
+            head = tail = newNode;
+            size = 1;
+            blocks = 1;
+            blockStart[0] = newNode;
+            blockSize[0] = 1;
+            return;
+        }
+
+        int block;
+        if (index == 0) {
+            // New first node becomes the start of the first block
+            newNode.next = head;
+            head = newNode;
+            block = 0;
+            blockStart[0] = newNode;
+        } else if (index == size) {
+            // Append to the last block
+            tail.next = newNode;
+            tail = newNode;
+            block = blocks - 1;
+        } else {
+            // Insert after the node at index-1, inside that node's block
+            LinkedList.Node previous = nodeAt(index - 1);
+            block = foundBlock;
+            newNode.next = previous.next;
+            previous.next = newNode;
+        }
+        blockSize[block]++;
+        size++;
+
+        if (blockSize[block] > 2 * k) {
+            splitBlock(block);
+        }
+        if (blocks > 2 * WALK_RATIO * WALK_RATIO * k) {
+            rebuildIndex(); // k has become too small for this size
+        }
+    }
+
+    /**
+     * Splits a block into two halves of size k and the rest
+     * Time Complexity: O(k + number of blocks)
+     */
+    private void splitBlock(int block) {
+        if (blocks == blockStart.length) {
+            blockStart = java.util.Arrays.copyOf(blockStart, blocks * 2);
+            blockSize = java.util.Arrays.copyOf(blockSize, blocks * 2);
+        }
+        // Make room for the new entry at block + 1
+        System.arraycopy(blockStart, block + 1, blockStart, block + 2, blocks - block - 1);
+        System.arraycopy(blockSize, block + 1, blockSize, block + 2, blocks - block - 1);
+        blocks++;
+
+        blockStart[block + 1] = walk(blockStart[block], k);
+        blockSize[block + 1] = blockSize[block] - k;
+        blockSize[block] = k;
+    }
+
+    /**
+     * Removes the entry of an empty block
+     * Time Complexity: O(number of blocks)
+     */
+    private void dropBlock(int block) {
+        System.arraycopy(blockStart, block + 1, blockStart, block, blocks - block - 1);
+        System.arraycopy(blockSize, block + 1, blockSize, block, blocks - block - 1);
+        blocks--;
+        blockStart[blocks] = null;
+    }
+
+    /**
+     * Rebuilds the index from scratch with k = sqrt(size) / WALK_RATIO
+     * Time Complexity: O(n)
+     */
+    public void rebuildIndex() {
+        k = Math.max(MIN_BLOCK_SIZE, (int) Math.sqrt(size) / WALK_RATIO);
+        int needed = Math.max(1, (size + k - 1) / k);
+        if (blockStart.length < needed) {
+            blockStart = new LinkedList.Node[needed * 2];
+            blockSize = new int[needed * 2];
+        } else {
+            java.util.Arrays.fill(blockStart, null);
+        }
+
+        blocks = 0;
+        LinkedList.Node current = head;
+        int remaining = size;
+        while (remaining > 0) {
+            int count = Math.min(k, remaining);
+            blockStart[blocks] = current;
+            blockSize[blocks] = count;
+            blocks++;
+            current = walk(current, count);
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Removes the node at the specified index
+     * Time Complexity: O(sqrt(n))
+     *
+     * @return the data of the removed node
+     */
+    public int remove(int index) {
+        checkIndex(index, size - 1);
+
+        locate(index);
+        int block = foundBlock;
+        int offset = foundOffset;
+
+        // Find the node before the one being removed
+        LinkedList.Node previous = null;
+        if (offset > 0) {
+            previous = walk(blockStart[block], offset - 1);
+        } else if (block > 0) {
+            previous = walk(blockStart[block - 1], blockSize[block - 1] - 1);
+        }
+
+        LinkedList.Node removed = previous == null ? head : previous.next;
+        if (previous == null) {
+            head = removed.next;
+        } else {
+            previous.next = removed.next;
+        }
+        if (removed == tail) {
+            tail = previous;
+        }
+        if (offset == 0) {
+            blockStart[block] = removed.next;
+        }
+        size--;
+
+        if (--blockSize[block] == 0) {
+            dropBlock(block);
+        } else if (block + 1 < blocks && blockSize[block] + blockSize[block + 1] <= k) {
+            // Merge small neighbours so the number of blocks stays near size / k
+            blockSize[block] += blockSize[block + 1];
+            dropBlock(block + 1);
+        }
+        if (k > MIN_BLOCK_SIZE && (long) k * k * WALK_RATIO * WALK_RATIO > 4L * size) {
+            rebuildIndex(); // k has become too large for this size
+        }
+        return removed.data;
+    }
+
+    /**
+     * Removes the first node from the list
+     * Time Complexity: O(1)
+     *
+     * @return the data of the removed node
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return remove(0);
+    }
+
+    /**
+     * Removes the last node from the list
+     * Time Complexity: O(sqrt(n))
+     *
+     * @return the data of the removed node
+     */
+    public int removeLast() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Deletes the nth node from the end
+     * Time Complexity: O(sqrt(n))
+     */
+    public void deleteNthFromEnd(int n) {
+        remove(size - n);
+    }
+
+    /**
+     * Searches for a key using iteration
+     * Time Complexity: O(n)
+     *
+     * @return index of the key if found, -1 otherwise
+     */
+    public int iterativeSearch(int key) {
+        int index = 0;
+        for (LinkedList.Node current = head; current != null; current = current.next) {
+            if (current.data == key) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prints all elements of the list
+     * Time Complexity: O(n)
+     */
+    public void print() {
+        for (LinkedList.Node current = head; current != null; current = current.next) {
+            System.out.print(current.data + "->");
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String args[]) {
+        IndexedLinkedList list = new IndexedLinkedList();
+        list.addFirst(2);
+        list.addFirst(1);
+        list.addLast(3);
+        list.addLast(4);
+        list.add(2, 10);
+        list.print(); // Expected: 1->2->10->3->4->null
+        System.out.println("get(2): " + list.get(2)); // Expected: 10
+        System.out.println("Removed last element: " + list.removeLast()); // Expected: 4
+        list.deleteNthFromEnd(2);
+        list.print(); // Expected: 1->2->3->null
+
+        // Cross-check positions against a plain java.util.ArrayList
+        java.util.Random random = new java.util.Random(1);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        IndexedLinkedList checked = new IndexedLinkedList();
+        for (int op = 0; op < 200000; op++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, op);
+                checked.add(index, op);
+            } else {
+                int index = random.nextInt(expected.size());
+                if (expected.remove(index) != checked.remove(index)) {
+                    throw new IllegalStateException("Mismatch at operation " + op);
+                }
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) != checked.get(i)) {
+                throw new IllegalStateException("Mismatch at index " + i);
+            }
+        }
+        System.out.println("Random add/remove check passed, size " + checked.size());
+    }
+}
@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 public class LinkedList {
     /**
      * Node class represents each element in the linked list
@@ -12,9 +15,12 @@ public class LinkedList {
         }
     }
 
-    public static Node head; // Points to the first node of the linked list
-    public static Node tail; // Points to the last node of the linked list
-    public static int size; // Tracks the number of nodes in the linked list
+    // State is per instance so that separate lists never share nodes.
+    // A single instance is not thread-safe; guard it with synchronized (list)
+    // or use ConcurrentLinkedIntList when several threads add and remove.
+    public Node head; // Points to the first node of the linked list
+    public Node tail; // Points to the last node of the linked list
+    public int size; // Tracks the number of nodes in the linked list
 
     /**
      * Adds a new node at the beginning of the linked list
@@ -184,11 +190,16 @@ public class LinkedList {
         return -1;
     }
 
+    // Deepest recursion recursiveSearch uses before finishing the walk in a loop
+    private static final int MAX_RECURSION_DEPTH = 1000;
+
     /**
-     * Helper method for recursive search
+     * Helper method for recursive search.
+     * Once depth reaches MAX_RECURSION_DEPTH the rest of the list is searched
+     * with a loop, so long lists cannot cause a StackOverflowError.
      * Time Complexity: O(n)
      */
-    private int recursiveHelper(Node current, int key) {
+    private int recursiveHelper(Node current, int key, int depth) {
         // Base case: reached end of list
         if (current == null) {
             return -1;
@@ -199,8 +210,21 @@ public class LinkedList {
             return 0;
         }
 
+        // Recursion budget used up: search the remaining nodes iteratively
+        if (depth == MAX_RECURSION_DEPTH) {
+            int index = 0;
+            while (current != null) {
+                if (current.data == key) {
+                    return index;
+                }
+                current = current.next;
+                index++;
+            }
+            return -1;
+        }
+
         // Recursive case: search in the rest of the list
-        int index = recursiveHelper(current.next, key);
+        int index = recursiveHelper(current.next, key, depth + 1);
         if (index == -1) {
             return -1;
         }
@@ -215,7 +239,7 @@ public class LinkedList {
      * @return index of the key if found, -1 otherwise
      */
     public int recursiveSearch(int key) {
-        return recursiveHelper(head, key);
+        return recursiveHelper(head, key, 0);
     }
 
     /**
@@ -291,20 +315,43 @@ public class LinkedList {
     }
 
     /**
-     * Checks if the linked list is a palindrome
+     * Returns the middle node (the second of the two middles for an even length)
      * Time Complexity: O(n)
      */
-    public boolean isPalindrome() {
-        if (head == null || head.next == null) {
-            return true; // Empty list or single node is a palindrome
-        }
+    public Node middle() {
+        return findMiddle(head);
+    }
 
-        // Step 1: Find the middle node
-        Node middleNode = findMiddle(head);
+    /**
+     * Returns the nth node from the end without modifying the list
+     * Time Complexity: O(n)
+     *
+     * @return the node, or null if the list has fewer than n nodes
+     */
+    public Node nthFromEnd(int n) {
+        // Move lead n nodes ahead, then move both until lead falls off the end
+        Node lead = head;
+        for (int i = 0; i < n; i++) {
+            if (lead == null) {
+                return null;
+            }
+            lead = lead.next;
+        }
+        Node trail = head;
+        while (lead != null) {
+            lead = lead.next;
+            trail = trail.next;
+        }
+        return n > 0 ? trail : null;
+    }
 
-        // Step 2: Reverse the second half
+    /**
+     * Reverses the chain starting at start and returns the new first node
+     * Time Complexity: O(n)
+     */
+    private Node reverseChain(Node start) {
         Node previous = null;
-        Node current = middleNode;
+        Node current = start;
         Node next;
         while (current != null) {
             next = current.next;
@@ -312,27 +359,52 @@ public class LinkedList {
             previous = current;
             current = next;
         }
+        return previous;
+    }
+
+    /**
+     * Checks if the linked list is a palindrome.
+     * The second half is reversed for the comparison and reversed back
+     * afterwards, so the list is unchanged when this returns.
+     * Time Complexity: O(n)
+     */
+    public boolean isPalindrome() {
+        if (head == null || head.next == null) {
+            return true; // Empty list or single node is a palindrome
+        }
+
+        // Step 1: Find the middle node
+        Node middleNode = findMiddle(head);
+
+        // Step 2: Reverse the second half
+        Node reversedHalf = reverseChain(middleNode);
 
         // Step 3: Compare first half with reversed second half
-        Node rightHalf = previous; // Head of right half
+        Node rightHalf = reversedHalf; // Head of right half
         Node leftHalf = head; // Head of left half
+        boolean palindrome = true;
 
         while (rightHalf != null) {
             if (leftHalf.data != rightHalf.data) {
-                return false; // Not a palindrome
+                palindrome = false; // Not a palindrome
+                break;
             }
             leftHalf = leftHalf.next;
             rightHalf = rightHalf.next;
         }
 
-        return true; // Is a palindrome
+        // Step 4: Restore the second half. The node before the middle still
+        // points at middleNode, so reversing back reconnects the list.
+        reverseChain(reversedHalf);
+
+        return palindrome;
     }
 
     /**
      * Checks if the linked list has a cycle
      * Time Complexity: O(n)
      */
-    public static boolean hasCycle() {
+    public boolean hasCycle() {
         Node slow = head;
         Node fast = head;
 
@@ -351,7 +423,7 @@ public class LinkedList {
      * Removes a cycle from the linked list if present
      * Time Complexity: O(n)
      */
-    public static void removeCycle() {
+    public void removeCycle() {
         // Step 1: Detect cycle
         Node slow = head;
         Node fast = head;
@@ -461,6 +533,244 @@ public class LinkedList {
         return mergeSortedLists(sortedLeft, sortedRight);
     }
 
+    /**
+     * Reverses every strictly descending run in place, so that a
+     * reverse-sorted list becomes a single ascending run.
+     * Strict descent keeps equal values in their original order.
+     * Time Complexity: O(n)
+     *
+     * @return the number of nodes in the list
+     */
+    private int reverseDescendingRuns() {
+        Node previousTail = null; // Last node of the already processed part
+        Node current = head;
+        int count = 0;
+
+        while (current != null) {
+            Node runStart = current;
+            Node runEnd = current;
+            count++;
+            while (runEnd.next != null && runEnd.next.data < runEnd.data) {
+                runEnd = runEnd.next;
+                count++;
+            }
+            Node afterRun = runEnd.next;
+
+            if (runStart != runEnd) {
+                // Reverse runStart..runEnd
+                Node previous = afterRun;
+                Node node = runStart;
+                while (node != afterRun) {
+                    Node next = node.next;
+                    node.next = previous;
+                    previous = node;
+                    node = next;
+                }
+                if (previousTail == null) {
+                    head = runEnd;
+                } else {
+                    previousTail.next = runEnd;
+                }
+                previousTail = runStart;
+            } else {
+                previousTail = runEnd;
+            }
+            current = afterRun;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the last node of the ascending run that begins at start
+     * Time Complexity: O(length of the run)
+     */
+    private Node endOfRun(Node start) {
+        Node end = start;
+        while (end.next != null && end.next.data >= end.data) {
+            end = end.next;
+        }
+        return end;
+    }
+
+    /**
+     * Merges two sorted chains using a caller-supplied dummy node,
+     * so repeated merges do not allocate
+     * Time Complexity: O(n+m)
+     */
+    private Node mergeRuns(Node dummy, Node list1, Node list2) {
+        Node current = dummy;
+        while (list1 != null && list2 != null) {
+            if (list1.data <= list2.data) {
+                current.next = list1;
+                list1 = list1.next;
+            } else {
+                current.next = list2;
+                list2 = list2.next;
+            }
+            current = current.next;
+        }
+
+        // Attach the remaining chain as is
+        current.next = list1 != null ? list1 : list2;
+        return dummy.next;
+    }
+
+    /**
+     * Sorts the linked list with a bottom-up (non-recursive) natural merge sort.
+     *
+     * The list is cut into its existing ascending runs, left to right. Runs
+     * are combined like a binary counter: bins[i] holds the merge of 2^i runs,
+     * and each new run is merged upwards through the occupied bins, so merged
+     * run lengths double without any recursion or re-scanning for a middle.
+     * A sorted or reverse-sorted list is one run and is done in a single pass;
+     * a nearly sorted list has few runs and needs few merges.
+     *
+     * Updates head, tail and size.
+     * Time Complexity: O(n log r) where r is the number of initial runs
+     * Space Complexity: O(1) (64 bins cover any list that fits in memory)
+     */
+    public void iterativeMergeSort() {
+        if (head == null || head.next == null) {
+            tail = head;
+            size = head == null ? 0 : 1;
+            return;
+        }
+
+        size = reverseDescendingRuns();
+
+        Node dummy = new Node(-1); // Reused by every merge
+        Node[] bins = new Node[64];
+        Node current = head;
+
+        while (current != null) {
+            // Step 1: Cut off the next ascending run
+            Node run = current;
+            Node runEnd = endOfRun(run);
+            current = runEnd.next;
+            runEnd.next = null;
+
+            // Step 2: Carry it up through the bins, merging equal-count neighbours.
+            // Bins hold earlier nodes, so they go first to keep the sort stable.
+            int i = 0;
+            while (bins[i] != null) {
+                run = mergeRuns(dummy, bins[i], run);
+                bins[i] = null;
+                i++;
+            }
+            bins[i] = run;
+        }
+
+        // Step 3: Merge whatever is left in the bins, most recent first
+        Node result = null;
+        for (Node bin : bins) {
+            if (bin != null) {
+                result = result == null ? bin : mergeRuns(dummy, bin, result);
+            }
+        }
+
+        // Step 4: Fix up head and tail
+        head = result;
+        Node last = result;
+        while (last.next != null) {
+            last = last.next;
+        }
+        tail = last;
+    }
+
+    // Segments at or below this many nodes are sorted sequentially
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 14;
+
+    /**
+     * Sorts segments[lo..hi) and merges them into one sorted chain.
+     * The two halves run in parallel; each merge reuses mergeSortedLists.
+     */
+    private class ParallelSortTask extends RecursiveTask<Node> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node[] segments;
+        private final int lo;
+        private final int hi;
+
+        ParallelSortTask(Node[] segments, int lo, int hi) {
+            this.segments = segments;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Node compute() {
+            if (hi - lo == 1) {
+                return mergeSort(segments[lo]); // Leaf: sequential sort of one segment
+            }
+            int mid = (lo + hi) >>> 1;
+            ParallelSortTask left = new ParallelSortTask(segments, lo, mid);
+            left.fork();
+            Node right = new ParallelSortTask(segments, mid, hi).compute();
+            return mergeSortedLists(left.join(), right);
+        }
+    }
+
+    /**
+     * Sorts the linked list using a fork/join merge sort.
+     *
+     * Step 1 cuts the chain into segments of at most threshold nodes.
+     * Step 2 sorts the segments concurrently and merges them pairwise as a
+     * tree, so up to half of the merges at each level run at the same time.
+     * Lists of threshold nodes or fewer use iterativeMergeSort instead.
+     *
+     * Updates head, tail and size.
+     * Time Complexity: O(n log n) work, O(n) span for the final merge
+     *
+     * @throws IllegalArgumentException if threshold is less than 1
+     */
+    public void parallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+
+        // Count the nodes, since callers may have re-linked head directly
+        int count = 0;
+        for (Node node = head; node != null; node = node.next) {
+            count++;
+        }
+        size = count;
+
+        if (count <= threshold) {
+            iterativeMergeSort();
+            return;
+        }
+
+        // Step 1: Cut the chain into segments
+        Node[] segments = new Node[(count + threshold - 1) / threshold];
+        Node current = head;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = current;
+            for (int j = 1; j < threshold && current.next != null; j++) {
+                current = current.next;
+            }
+            Node next = current.next;
+            current.next = null;
+            current = next;
+        }
+
+        // Step 2: Sort and merge in parallel
+        head = pool.invoke(new ParallelSortTask(segments, 0, segments.length));
+
+        Node last = head;
+        while (last.next != null) {
+            last = last.next;
+        }
+        tail = last;
+    }
+
+    /**
+     * Sorts the linked list in parallel on the common pool
+     * Time Complexity: O(n log n)
+     */
+    public void parallelMergeSort() {
+        parallelMergeSort(ForkJoinPool.commonPool(), PARALLEL_SORT_THRESHOLD);
+    }
+
     /**
      * Rearranges the linked list in a zigzag pattern
      * Time Complexity: O(n)
@@ -522,7 +832,7 @@ public class LinkedList {
         list.addLast(3);
         list.addLast(4);
         list.print(); // Expected: 1->2->3->4->null
-        System.out.println("Size: " + LinkedList.size); // Expected: 4
+        System.out.println("Size: " + list.size); // Expected: 4
 
         // Test add at index
         System.out.println("\nAdding element at index 2:");
@@ -562,6 +872,7 @@ public class LinkedList {
         palindromeList.addLast(1);
         palindromeList.print(); // Expected: 1->2->2->1->null
         System.out.println("Is palindrome: " + palindromeList.isPalindrome()); // Expected: true
+        palindromeList.print(); // Expected: 1->2->2->1->null (unchanged by the check)
 
         // Test merge sort
         System.out.println("\nTesting merge sort:");
@@ -577,6 +888,30 @@ public class LinkedList {
         System.out.println("After sorting:");
         unsortedList.print(); // Expected: 1->2->3->4->null
 
+        // Test iterative merge sort
+        System.out.println("\nTesting iterative merge sort:");
+        LinkedList runsList = new LinkedList();
+        runsList.addLast(5);
+        runsList.addLast(6);
+        runsList.addLast(9);
+        runsList.addLast(3);
+        runsList.addLast(2);
+        runsList.addLast(7);
+        runsList.iterativeMergeSort();
+        runsList.print(); // Expected: 2->3->5->6->7->9->null
+        System.out.println("Tail: " + runsList.tail.data + ", Size: " + runsList.size); // Expected: 9, 6
+
+        // Test parallel merge sort (threshold 2 forces the parallel path)
+        System.out.println("\nTesting parallel merge sort:");
+        LinkedList parallelList = new LinkedList();
+        parallelList.addLast(8);
+        parallelList.addLast(3);
+        parallelList.addLast(5);
+        parallelList.addLast(1);
+        parallelList.addLast(9);
+        parallelList.parallelMergeSort(ForkJoinPool.commonPool(), 2);
+        parallelList.print(); // Expected: 1->3->5->8->9->null
+
         // Test zigzag
         System.out.println("\nTesting zigzag rearrangement:");
         LinkedList zigzagList = new LinkedList();
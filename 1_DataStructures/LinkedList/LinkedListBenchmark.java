@@ -0,0 +1,289 @@
+/**
+ * LinkedList Benchmarks
+ *
+ * Timing comparisons between the original LinkedList algorithms and their
+ * faster replacements. Each comparison warms up first so the JIT has
+ * compiled both paths, then reports the best of several rounds.
+ *
+ * Run with a larger heap for the 10^7 sizes, e.g.
+ * java -Xmx4g LinkedListBenchmark 10000000
+ * (the argument sets the merge sort size; the parallel sort always uses 10^7)
+ */
+import java.util.Random;
+
+public class LinkedListBenchmark {
+    private static final int ROUNDS = 3;
+
+    /**
+     * Builds a list of n values in the given shape
+     */
+    private static LinkedList buildList(String shape, int n, long seed) {
+        Random random = new Random(seed);
+        LinkedList list = new LinkedList();
+        for (int i = 0; i < n; i++) {
+            switch (shape) {
+                case "random":
+                    list.addLast(random.nextInt());
+                    break;
+                case "sorted":
+                    list.addLast(i);
+                    break;
+                case "reverse":
+                    list.addLast(n - i);
+                    break;
+                case "nearly-sorted":
+                    // Sorted with about 1% of values swapped for random ones
+                    list.addLast(random.nextInt(100) == 0 ? random.nextInt(n) : i);
+                    break;
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Compares the recursive mergeSort(Node) with iterativeMergeSort()
+     * on random, sorted, reverse-sorted and nearly-sorted input
+     */
+    public static void compareSortPerformance(int n) {
+        System.out.println("\n===== Merge Sort Comparison (" + n + " nodes) =====\n");
+        System.out.printf("%-16s%-18s%-18s%s\n", "Input", "Recursive (ms)", "Iterative (ms)", "Speedup");
+
+        for (String shape : new String[] { "random", "sorted", "reverse", "nearly-sorted" }) {
+            long recursiveBest = Long.MAX_VALUE;
+            long iterativeBest = Long.MAX_VALUE;
+
+            for (int round = 0; round < ROUNDS; round++) {
+                LinkedList list = buildList(shape, n, round);
+                long startTime = System.nanoTime();
+                list.head = list.mergeSort(list.head);
+                recursiveBest = Math.min(recursiveBest, System.nanoTime() - startTime);
+
+                list = buildList(shape, n, round);
+                startTime = System.nanoTime();
+                list.iterativeMergeSort();
+                iterativeBest = Math.min(iterativeBest, System.nanoTime() - startTime);
+                checkSorted(list, n);
+            }
+
+            System.out.printf("%-16s%-18.2f%-18.2f%.2fx\n", shape, recursiveBest / 1e6, iterativeBest / 1e6,
+                    (double) recursiveBest / iterativeBest);
+        }
+    }
+
+    private static void checkSorted(LinkedList list, int n) {
+        int count = 0;
+        LinkedList.Node previous = null;
+        for (LinkedList.Node node = list.head; node != null; node = node.next) {
+            if (previous != null && previous.data > node.data) {
+                throw new IllegalStateException("List is not sorted");
+            }
+            previous = node;
+            count++;
+        }
+        if (count != n || list.size != n || list.tail != previous) {
+            throw new IllegalStateException("Size or tail is wrong after sorting");
+        }
+    }
+
+    /**
+     * Compares add(index) and get-by-index on LinkedList (a walk from head)
+     * with IndexedLinkedList (skip index) at random positions
+     */
+    public static void compareIndexedAccess(int n, int linkedOps, int indexedOps) {
+        System.out.println("\n===== Positional Access (" + n + " nodes) =====\n");
+
+        LinkedList plain = new LinkedList();
+        IndexedLinkedList indexed = new IndexedLinkedList();
+        for (int i = 0; i < n; i++) {
+            plain.addLast(i);
+            indexed.addLast(i);
+        }
+
+        Random random = new Random(7);
+        long sink = 0;
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < linkedOps; i++) {
+            plain.add(random.nextInt(plain.size), i);
+        }
+        double plainAdd = (System.nanoTime() - startTime) / (double) linkedOps;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < linkedOps; i++) {
+            LinkedList.Node node = plain.head;
+            for (int steps = random.nextInt(plain.size); steps > 0; steps--) {
+                node = node.next;
+            }
+            sink += node.data;
+        }
+        double plainGet = (System.nanoTime() - startTime) / (double) linkedOps;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < indexedOps; i++) {
+            indexed.add(random.nextInt(indexed.size()), i);
+        }
+        double indexedAdd = (System.nanoTime() - startTime) / (double) indexedOps;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < indexedOps; i++) {
+            sink += indexed.get(random.nextInt(indexed.size()));
+        }
+        double indexedGet = (System.nanoTime() - startTime) / (double) indexedOps;
+
+        System.out.printf("%-20s%-18s%s\n", "", "add(index) ns/op", "get(index) ns/op");
+        System.out.printf("%-20s%-18.0f%.0f\n", "LinkedList", plainAdd, plainGet);
+        System.out.printf("%-20s%-18.0f%.0f\n", "IndexedLinkedList", indexedAdd, indexedGet);
+        System.out.printf("Speedup: add %.0fx, get %.0fx\n", plainAdd / indexedAdd, plainGet / indexedGet);
+        if (sink == 42) {
+            System.out.println(); // Keeps the JIT from dropping the loops
+        }
+    }
+
+    /**
+     * Compares LinkedList and UnrolledLinkedList on a sequential scan
+     * (search for a missing key), random inserts, and retained heap size
+     */
+    public static void compareUnrolled(int n, int inserts) {
+        System.out.println("\n===== Unrolled vs Node-per-int (" + n + " elements) =====\n");
+
+        long before = ListBenchmarkSupport.usedHeapAfterGc();
+        LinkedList plain = new LinkedList();
+        for (int i = 0; i < n; i++) {
+            plain.addLast(i);
+        }
+        long plainBytes = ListBenchmarkSupport.usedHeapAfterGc() - before;
+
+        before = ListBenchmarkSupport.usedHeapAfterGc();
+        UnrolledLinkedList unrolled = new UnrolledLinkedList();
+        for (int i = 0; i < n; i++) {
+            unrolled.addLast(i);
+        }
+        long unrolledBytes = ListBenchmarkSupport.usedHeapAfterGc() - before;
+
+        // Sequential scan: the key is never present, so every element is visited
+        long plainScan = Long.MAX_VALUE;
+        long unrolledScan = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long startTime = System.nanoTime();
+            plain.iterativeSearch(-1);
+            plainScan = Math.min(plainScan, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            unrolled.iterativeSearch(-1);
+            unrolledScan = Math.min(unrolledScan, System.nanoTime() - startTime);
+        }
+
+        // Random inserts
+        Random random = new Random(3);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < inserts; i++) {
+            plain.add(random.nextInt(plain.size), i);
+        }
+        double plainInsert = (System.nanoTime() - startTime) / (double) inserts;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < inserts; i++) {
+            unrolled.add(random.nextInt(unrolled.size()), i);
+        }
+        double unrolledInsert = (System.nanoTime() - startTime) / (double) inserts;
+
+        System.out.printf("%-22s%-16s%-20s%s\n", "", "scan (ms)", "random insert (ns)", "bytes/element");
+        System.out.printf("%-22s%-16.2f%-20.0f%.1f\n", "LinkedList", plainScan / 1e6, plainInsert,
+                (double) plainBytes / n);
+        System.out.printf("%-22s%-16.2f%-20.0f%.1f\n", "UnrolledLinkedList", unrolledScan / 1e6, unrolledInsert,
+                (double) unrolledBytes / n);
+    }
+
+    /**
+     * Measures parallelMergeSort on pools of 1, 2, 4 and 8 threads against
+     * the sequential recursive mergeSort on random input
+     */
+    public static void compareParallelSort(int n) {
+        System.out.println("\n===== Parallel Merge Sort (" + n + " nodes, "
+                + Runtime.getRuntime().availableProcessors() + " cores) =====\n");
+
+        long sequentialBest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            LinkedList list = buildList("random", n, round);
+            long startTime = System.nanoTime();
+            list.head = list.mergeSort(list.head);
+            sequentialBest = Math.min(sequentialBest, System.nanoTime() - startTime);
+        }
+        System.out.printf("%-16s%-14s%s\n", "Threads", "Time (ms)", "Speedup");
+        System.out.printf("%-16s%-14.1f%s\n", "sequential", sequentialBest / 1e6, "1.00x");
+
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(threads);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                LinkedList list = buildList("random", n, round);
+                long startTime = System.nanoTime();
+                list.parallelMergeSort(pool, LinkedList.PARALLEL_SORT_THRESHOLD);
+                best = Math.min(best, System.nanoTime() - startTime);
+                checkSorted(list, n);
+            }
+            pool.shutdown();
+            System.out.printf("%-16d%-14.1f%.2fx\n", threads, best / 1e6, (double) sequentialBest / best);
+        }
+    }
+
+    /**
+     * Compares one FusedListScan pass with separate calls to iterativeSearch,
+     * isPalindrome, hasCycle, middle and nthFromEnd
+     */
+    public static void compareFusedScan(int n) {
+        System.out.println("\n===== Fused Scan vs Separate Calls (" + n + " nodes) =====\n");
+
+        // Palindrome-shaped list so isPalindrome has to compare every pair
+        LinkedList list = new LinkedList();
+        for (int i = 0; i < n; i++) {
+            list.addLast(Math.min(i, n - 1 - i));
+        }
+
+        long separateBest = Long.MAX_VALUE;
+        long fusedBest = Long.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round < ROUNDS + 2; round++) {
+            long startTime = System.nanoTime();
+            sink += list.iterativeSearch(-1);
+            sink += list.isPalindrome() ? 1 : 0;
+            sink += list.hasCycle() ? 1 : 0;
+            sink += list.middle().data;
+            sink += list.nthFromEnd(10).data;
+            separateBest = Math.min(separateBest, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            FusedListScan.Result result = FusedListScan.scan(list, -1, 10);
+            sink += result.searchIndex + (result.isPalindrome ? 1 : 0) + (result.hasCycle ? 1 : 0)
+                    + result.middle.data + result.nthFromEnd.data;
+            fusedBest = Math.min(fusedBest, System.nanoTime() - startTime);
+        }
+
+        System.out.printf("Separate calls: %.1f ms\n", separateBest / 1e6);
+        System.out.printf("Fused scan:     %.1f ms\n", fusedBest / 1e6);
+        System.out.printf("Speedup: %.2fx\n", (double) separateBest / fusedBest);
+        if (sink == 42) {
+            System.out.println(); // Keeps the JIT from dropping the calls
+        }
+    }
+
+    public static void main(String args[]) {
+        int[] sizes = args.length > 0 ? new int[] { Integer.parseInt(args[0]) } : new int[] { 100000, 1000000 };
+
+        // Warm up on a small size before timing
+        for (int i = 0; i < 5; i++) {
+            buildList("random", 10000, i).iterativeMergeSort();
+            LinkedList list = buildList("random", 10000, i);
+            list.head = list.mergeSort(list.head);
+        }
+
+        for (int n : sizes) {
+            compareSortPerformance(n);
+        }
+
+        compareIndexedAccess(1000000, 500, 200000);
+        compareUnrolled(1000000, 500);
+        compareParallelSort(10000000);
+        compareFusedScan(10000000);
+    }
+}
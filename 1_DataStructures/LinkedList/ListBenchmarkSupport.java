@@ -0,0 +1,89 @@
+/**
+ * List Benchmark Support
+ *
+ * Measurement helpers shared by the benchmarks in this directory:
+ * - usedHeapAfterGc / retainedBytesPerElement: retained heap size, measured
+ *   as the drop in used heap when the measured objects are released
+ * - footprintForked: runs "<mainClass> --measure <name>" in a fresh JVM with
+ *   the serial collector, with or without compressed oops
+ */
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+public class ListBenchmarkSupport {
+    /**
+     * Used heap after repeated full GCs
+     */
+    static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Retained heap per element of the structures built by build(n)
+     *
+     * Builds enough structures of n elements to hold about targetElements in
+     * total (at least one), keeping them reachable, and records the used heap
+     * after GC. The baseline is taken after they are released rather than
+     * before they are built, so leftovers from earlier work cannot skew it.
+     */
+    static double retainedBytesPerElement(IntFunction<Object> build, int n, int targetElements) {
+        int copies = Math.max(1, targetElements / n);
+        Object[] retained = new Object[copies];
+
+        for (int c = 0; c < copies; c++) {
+            retained[c] = build.apply(n);
+        }
+        long filled = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+
+        Arrays.fill(retained, null);
+        long released = usedHeapAfterGc();
+
+        return (double) (filled - released) / ((long) copies * n);
+    }
+
+    /**
+     * Runs "mainClass --measure name" in a fresh JVM with the serial collector
+     * (whose used-heap figure after a full GC is exact), with or without
+     * compressed oops, and returns the "size bytesPerElement" lines it
+     * prints as a map
+     *
+     * @throws IllegalStateException with the output if the fork fails
+     */
+    static Map<Integer, Double> footprintForked(String mainClass, String name, boolean compressedOops)
+            throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-Xmx3g", "-XX:+UseSerialGC",
+                compressedOops ? "-XX:+UseCompressedOops" : "-XX:-UseCompressedOops", "-cp",
+                System.getProperty("java.class.path"), mainClass, "--measure", name);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        Map<Integer, Double> result = new HashMap<>();
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length == 2 && fields[0].matches("\\d+")) {
+                    result.put(Integer.parseInt(fields[0]), Double.parseDouble(fields[1]));
+                }
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Fork failed for " + mainClass + " " + name + ":\n" + output);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * List Memory Footprint
+ *
+ * Measures how many bytes of heap each list in this directory retains per
+ * element, from 10 to 10^7 elements, with and without compressed oops.
+ * java.util.LinkedList and java.util.ArrayList of Integer are included for
+ * reference.
+ *
+ * Method (heap delta after GC, see ListBenchmarkSupport.retainedBytesPerElement):
+ * 1. Build enough lists of the given size to hold about TARGET_ELEMENTS
+ *    values in total (one list at the largest sizes), keeping them reachable.
+ * 2. Force GC and record the used heap.
+ * 3. Release the lists and force GC again; the drop in used heap divided
+ *    by the number of values is the retained size per element, including
+ *    each list's fixed overhead and any spare array capacity.
+ *
+ * Values appended are 1000, 1001, ... so boxed lists really hold one Integer
+ * per element instead of sharing the Integer cache (-128..127).
+ *
+ * Each list is measured in a fresh JVM with the serial collector, once with
+ * -XX:+UseCompressedOops (4-byte references) and once with
+ * -XX:-UseCompressedOops (8-byte references). Compressed class pointers stay
+ * on in both, so object headers are 12 bytes either way.
+ *
+ * Usage:
+ *   java ListMemoryFootprint                    all lists, both layouts
+ *   java ListMemoryFootprint --measure <list>   one list in this JVM (used by forks)
+ */
+import java.util.Map;
+
+public class ListMemoryFootprint {
+    private static final int TARGET_ELEMENTS = 1000000; // Values held per measurement at small sizes
+    static final int[] SIZES = { 10, 100, 1000, 10000, 100000, 1000000, 10000000 };
+
+    static final String[] LISTS = { "LinkedList", "DoublyLinkedList", "ArenaLinkedList", "UnrolledLinkedList",
+            "IndexedLinkedList", "ConcurrentLinkedIntList", "java.util.LinkedList", "java.util.ArrayList" };
+
+    /**
+     * Builds the named list holding the values 1000 .. 1000 + n - 1
+     */
+    static Object build(String name, int n) {
+        switch (name) {
+            case "LinkedList": {
+                LinkedList list = new LinkedList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "DoublyLinkedList": {
+                DoublyLinkedList list = new DoublyLinkedList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "ArenaLinkedList": {
+                ArenaLinkedList list = new ArenaLinkedList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "UnrolledLinkedList": {
+                UnrolledLinkedList list = new UnrolledLinkedList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "IndexedLinkedList": {
+                IndexedLinkedList list = new IndexedLinkedList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "ConcurrentLinkedIntList": {
+                ConcurrentLinkedIntList list = new ConcurrentLinkedIntList();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "java.util.LinkedList": {
+                java.util.LinkedList<Integer> list = new java.util.LinkedList<>();
+                for (int i = 0; i < n; i++) {
+                    list.addLast(1000 + i);
+                }
+                return list;
+            }
+            case "java.util.ArrayList": {
+                java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+                for (int i = 0; i < n; i++) {
+                    list.add(1000 + i);
+                }
+                return list;
+            }
+        }
+        throw new IllegalArgumentException("Unknown list: " + name);
+    }
+
+    /**
+     * Retained heap per element of the named list when it holds n values
+     */
+    static double bytesPerElement(String listName, int n) {
+        return ListBenchmarkSupport.retainedBytesPerElement(size -> build(listName, size), n, TARGET_ELEMENTS);
+    }
+
+    public static void main(String args[]) throws Exception {
+        if (args.length == 2 && args[0].equals("--measure")) {
+            for (int size : SIZES) {
+                System.out.println(size + " " + bytesPerElement(args[1], size));
+            }
+            return;
+        }
+
+        System.out.println("===== List Memory Footprint (retained bytes per element) =====\n");
+        System.out.printf("%-26s%-12s%14s%14s\n", "List", "Size", "compressed", "uncompressed");
+        for (String listName : LISTS) {
+            Map<Integer, Double> compressed = ListBenchmarkSupport.footprintForked("ListMemoryFootprint",
+                    listName, true);
+            Map<Integer, Double> uncompressed = ListBenchmarkSupport.footprintForked("ListMemoryFootprint",
+                    listName, false);
+            for (int size : SIZES) {
+                System.out.printf("%-26s%-12d%14.2f%14.2f\n", listName, size, compressed.get(size),
+                        uncompressed.get(size));
+            }
+        }
+    }
+}
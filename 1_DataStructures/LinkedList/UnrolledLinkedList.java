@@ -0,0 +1,460 @@
+/**
+ * Unrolled linked list (chunked nodes)
+ *
+ * Each node (chunk) stores up to CHUNK_CAPACITY ints in a primitive array
+ * instead of a single int. Walking the list touches one node per 64 values,
+ * and the values inside a chunk sit next to each other in memory, so scans
+ * run at array speed and the per-element overhead of a Node object disappears.
+ *
+ * A full chunk is split in two when something is inserted into it, and a
+ * chunk that drops below half full is merged with its successor when the
+ * two fit in one chunk. Chunks are doubly linked so the list can also be
+ * walked from the end.
+ *
+ * Time Complexity (n elements, c = CHUNK_CAPACITY):
+ * - addLast / removeLast: O(1); the last chunk never splits or merges
+ * - addFirst / removeFirst: O(c) to shift the first chunk, which may also
+ *   split or merge in O(c)
+ * - add(index, data) / get(index) / remove(index): O(n / c + c)
+ * - iterativeSearch / isPalindrome / reverse: O(n)
+ */
+import java.util.Arrays;
+
+public class UnrolledLinkedList {
+    static final int CHUNK_CAPACITY = 64;
+
+    /**
+     * Chunk holds up to CHUNK_CAPACITY consecutive elements
+     */
+    static class Chunk {
+        final int[] values = new int[CHUNK_CAPACITY];
+        int count; // Number of values in use
+        Chunk prev;
+        Chunk next;
+    }
+
+    private Chunk head; // First chunk
+    private Chunk tail; // Last chunk
+    private int size; // Total number of elements
+
+    // Result of locate(): the chunk holding a position and the offset inside it
+    private Chunk foundChunk;
+    private int foundOffset;
+
+    /**
+     * Finds the chunk containing position index, searching from the closer end
+     * Time Complexity: O(n / c)
+     */
+    private void locate(int index) {
+        if (index < size / 2) {
+            Chunk chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            foundChunk = chunk;
+            foundOffset = index;
+        } else {
+            Chunk chunk = tail;
+            int fromEnd = size - 1 - index;
+            while (fromEnd >= chunk.count) {
+                fromEnd -= chunk.count;
+                chunk = chunk.prev;
+            }
+            foundChunk = chunk;
+            foundOffset = chunk.count - 1 - fromEnd;
+        }
+    }
+
+    /**
+     * Links a new empty chunk after the given one (or as the only chunk)
+     * Time Complexity: O(1)
+     */
+    private Chunk insertChunkAfter(Chunk chunk) {
+        Chunk newChunk = new Chunk();
+        if (chunk == null) {
+            head = tail = newChunk;
+            return newChunk;
+        }
+        newChunk.prev = chunk;
+        newChunk.next = chunk.next;
+        if (chunk.next != null) {
+            chunk.next.prev = newChunk;
+        } else {
+            tail = newChunk;
+        }
+        chunk.next = newChunk;
+        return newChunk;
+    }
+
+    /**
+     * Unlinks a chunk from the chunk chain
+     * Time Complexity: O(1)
+     */
+    private void unlinkChunk(Chunk chunk) {
+        if (chunk.prev != null) {
+            chunk.prev.next = chunk.next;
+        } else {
+            head = chunk.next;
+        }
+        if (chunk.next != null) {
+            chunk.next.prev = chunk.prev;
+        } else {
+            tail = chunk.prev;
+        }
+    }
+
+    /**
+     * Adds a new element at the specified index
+     * Time Complexity: O(n / c + c)
+     */
+    public void add(int index, int data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Chunk chunk;
+        int offset;
+        if (head == null) {
+            chunk = insertChunkAfter(null);
+            offset = 0;
+        } else if (index == size) {
+            chunk = tail;
+            offset = tail.count;
+        } else {
+            locate(index);
+            chunk = foundChunk;
+            offset = foundOffset;
+        }
+
+        if (chunk.count == CHUNK_CAPACITY) {
+            if (offset == CHUNK_CAPACITY) {
+                // Appending past a full last chunk: start a new one
+                chunk = insertChunkAfter(chunk);
+                offset = 0;
+            } else {
+                // Step 1: Move the upper half into a new chunk
+                Chunk upper = insertChunkAfter(chunk);
+                int half = CHUNK_CAPACITY / 2;
+                System.arraycopy(chunk.values, half, upper.values, 0, CHUNK_CAPACITY - half);
+                upper.count = CHUNK_CAPACITY - half;
+                chunk.count = half;
+
+                // Step 2: Continue in whichever half now holds the position
+                if (offset > half) {
+                    chunk = upper;
+                    offset -= half;
+                }
+            }
+        }
+
+        // Shift the tail of the chunk right by one and insert
+        System.arraycopy(chunk.values, offset, chunk.values, offset + 1, chunk.count - offset);
+        chunk.values[offset] = data;
+        chunk.count++;
+        size++;
+    }
+
+    /**
+     * Adds a new element at the beginning of the list
+     * Time Complexity: O(c) to shift the first chunk, O(c) more if it splits
+     */
+    public void addFirst(int data) {
+        add(0, data);
+    }
+
+    /**
+     * Adds a new element at the end of the list
+     * Time Complexity: O(1); a full last chunk is followed by a new one,
+     * never split
+     */
+    public void addLast(int data) {
+        add(size, data);
+    }
+
+    /**
+     * Returns the element at the specified index
+     * Time Complexity: O(n / c)
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        locate(index);
+        return foundChunk.values[foundOffset];
+    }
+
+    /**
+     * Removes the element at the specified index
+     * Time Complexity: O(n / c + c)
+     *
+     * @return the removed element
+     */
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        locate(index);
+        Chunk chunk = foundChunk;
+        int offset = foundOffset;
+
+        int value = chunk.values[offset];
+        System.arraycopy(chunk.values, offset + 1, chunk.values, offset, chunk.count - offset - 1);
+        chunk.count--;
+        size--;
+
+        if (chunk.count == 0) {
+            unlinkChunk(chunk);
+        } else if (chunk.count < CHUNK_CAPACITY / 2 && chunk.next != null
+                && chunk.count + chunk.next.count <= CHUNK_CAPACITY) {
+            // Pull the next chunk into this one so chunks stay at least half full
+            Chunk next = chunk.next;
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+            chunk.count += next.count;
+            unlinkChunk(next);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the first element from the list
+     * Time Complexity: O(c) to shift the first chunk, O(c) more if it merges
+     *
+     * @return the removed element
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return remove(0);
+    }
+
+    /**
+     * Removes the last element from the list
+     * Time Complexity: O(1); the last chunk has no successor to merge with
+     *
+     * @return the removed element
+     */
+    public int removeLast() {
+        if (size == 0) {
+            System.out.println("Linked List is empty");
+            return Integer.MIN_VALUE;
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Deletes the nth element from the end
+     * Time Complexity: O(n / c + c)
+     */
+    public void deleteNthFromEnd(int n) {
+        remove(size - n);
+    }
+
+    /**
+     * Searches for a key, scanning each chunk's array
+     * Time Complexity: O(n)
+     *
+     * @return index of the key if found, -1 otherwise
+     */
+    public int iterativeSearch(int key) {
+        int base = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                if (values[i] == key) {
+                    return base + i;
+                }
+            }
+            base += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses the list: reverses the chunk order and each chunk's values
+     * Time Complexity: O(n)
+     */
+    public void reverse() {
+        Chunk chunk = head;
+        while (chunk != null) {
+            int[] values = chunk.values;
+            for (int i = 0, j = chunk.count - 1; i < j; i++, j--) {
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+            Chunk next = chunk.next;
+            chunk.next = chunk.prev;
+            chunk.prev = next;
+            chunk = next;
+        }
+        Chunk oldHead = head;
+        head = tail;
+        tail = oldHead;
+    }
+
+    /**
+     * Checks if the list is a palindrome by walking inwards from both ends.
+     * The list is not modified.
+     * Time Complexity: O(n)
+     */
+    public boolean isPalindrome() {
+        Chunk left = head;
+        int leftIndex = 0;
+        Chunk right = tail;
+        int rightIndex = right == null ? 0 : right.count - 1;
+
+        for (int step = 0; step < size / 2; step++) {
+            if (left.values[leftIndex] != right.values[rightIndex]) {
+                return false;
+            }
+            if (++leftIndex == left.count) {
+                left = left.next;
+                leftIndex = 0;
+            }
+            if (--rightIndex < 0) {
+                right = right.prev;
+                rightIndex = right.count - 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies all elements into an array
+     * Time Complexity: O(n)
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int position = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, result, position, chunk.count);
+            position += chunk.count;
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the contents with the given values, packing chunks full
+     * Time Complexity: O(n)
+     */
+    private void refill(int[] values) {
+        head = tail = null;
+        size = 0;
+        for (int start = 0; start < values.length; start += CHUNK_CAPACITY) {
+            Chunk chunk = insertChunkAfter(tail);
+            chunk.count = Math.min(CHUNK_CAPACITY, values.length - start);
+            System.arraycopy(values, start, chunk.values, 0, chunk.count);
+        }
+        size = values.length;
+    }
+
+    /**
+     * Sorts the list. The values are already stored in arrays, so they are
+     * sorted as one array and packed back into full chunks.
+     * Time Complexity: O(n log n)
+     */
+    public void sort() {
+        int[] values = toArray();
+        Arrays.sort(values);
+        refill(values);
+    }
+
+    /**
+     * Rearranges the list in a zigzag pattern: first, last, second, second-to-last, ...
+     * Time Complexity: O(n)
+     */
+    public void zigZag() {
+        int[] values = toArray();
+        int[] result = new int[size];
+        int left = 0;
+        int right = size - 1;
+        int position = 0;
+        while (left <= right) {
+            result[position++] = values[left++];
+            if (left <= right) {
+                result[position++] = values[right--];
+            }
+        }
+        refill(result);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Prints all elements of the list
+     * Time Complexity: O(n)
+     */
+    public void print() {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                System.out.print(chunk.values[i] + "->");
+            }
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String args[]) {
+        UnrolledLinkedList list = new UnrolledLinkedList();
+        list.addFirst(2);
+        list.addFirst(1);
+        list.addLast(3);
+        list.addLast(4);
+        list.add(2, 10);
+        list.print(); // Expected: 1->2->10->3->4->null
+        System.out.println("Element 10 found at index: " + list.iterativeSearch(10)); // Expected: 2
+        System.out.println("Removed first element: " + list.removeFirst()); // Expected: 1
+        System.out.println("Removed last element: " + list.removeLast()); // Expected: 4
+        list.reverse();
+        list.print(); // Expected: 3->10->2->null
+        list.deleteNthFromEnd(2);
+        list.print(); // Expected: 3->2->null
+
+        UnrolledLinkedList palindrome = new UnrolledLinkedList();
+        for (int i = 0; i < 100; i++) {
+            palindrome.addLast(i);
+        }
+        for (int i = 99; i >= 0; i--) {
+            palindrome.addLast(i);
+        }
+        System.out.println("Is palindrome: " + palindrome.isPalindrome()); // Expected: true
+
+        UnrolledLinkedList zigzag = new UnrolledLinkedList();
+        for (int i = 1; i <= 5; i++) {
+            zigzag.addLast(i);
+        }
+        zigzag.zigZag();
+        zigzag.print(); // Expected: 1->5->2->4->3->null
+
+        // Cross-check positions against a plain java.util.ArrayList
+        java.util.Random random = new java.util.Random(1);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        UnrolledLinkedList checked = new UnrolledLinkedList();
+        for (int op = 0; op < 200000; op++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, op);
+                checked.add(index, op);
+            } else {
+                int index = random.nextInt(expected.size());
+                if (expected.remove(index) != checked.remove(index)) {
+                    throw new IllegalStateException("Mismatch at operation " + op);
+                }
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) != checked.get(i)) {
+                throw new IllegalStateException("Mismatch at index " + i);
+            }
+        }
+        System.out.println("Random add/remove check passed, size " + checked.size());
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Benchmark Support
+ *
+ * Measurement helpers shared by the benchmarks in this directory, so the
+ * heap-delta method and the forked-JVM plumbing exist only once:
+ * - usedHeapAfterGc / retainedBytesPerElement: retained heap size, measured
+ *   as the drop in used heap when the measured objects are released
+ * - fork: runs a main class in a fresh JVM and returns its output lines
+ * - footprintForked: runs a "--measure <name>" footprint fork with the
+ *   serial collector, with or without compressed oops
+ */
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+public class BenchmarkSupport {
+    /**
+     * Used heap after repeated full GCs
+     */
+    static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Whether this JVM runs with compressed object pointers
+     */
+    static boolean compressedOops() {
+        com.sun.management.HotSpotDiagnosticMXBean diagnostics = ManagementFactory
+                .getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+        return Boolean.parseBoolean(diagnostics.getVMOption("UseCompressedOops").getValue());
+    }
+
+    /**
+     * Retained heap per element of the structures built by build(n)
+     *
+     * Builds enough structures of n elements to hold about targetElements in
+     * total (at least one), keeping them reachable, and records the used heap
+     * after GC. The baseline is taken after they are released rather than
+     * before they are built, so leftovers from earlier work cannot skew it.
+     * The result includes each structure's fixed overhead and any spare
+     * array capacity.
+     */
+    static double retainedBytesPerElement(IntFunction<Object> build, int n, int targetElements) {
+        int copies = Math.max(1, targetElements / n);
+        Object[] retained = new Object[copies];
+
+        for (int c = 0; c < copies; c++) {
+            retained[c] = build.apply(n);
+        }
+        long filled = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+
+        Arrays.fill(retained, null);
+        long released = usedHeapAfterGc();
+
+        return (double) (filled - released) / ((long) copies * n);
+    }
+
+    /**
+     * Runs mainClass in a fresh JVM on this JVM's class path and returns its
+     * output lines (stdout and stderr together)
+     *
+     * @throws IllegalStateException with the output if the fork fails
+     */
+    static List<String> fork(List<String> jvmOptions, String mainClass, String... args) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass);
+        command.addAll(Arrays.asList(args));
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(
+                    "Fork failed for " + mainClass + " " + String.join(" ", args) + ":\n" + String.join("\n", lines));
+        }
+        return lines;
+    }
+
+    /**
+     * Runs "mainClass --measure name" in a fresh JVM with the serial collector
+     * (whose used-heap figure after a full GC is exact), with or without
+     * compressed oops, and returns the "size bytesPerElement" lines it
+     * prints as a map
+     */
+    static Map<Integer, Double> footprintForked(String mainClass, String name, boolean compressedOops)
+            throws Exception {
+        List<String> lines = fork(Arrays.asList("-Xmx3g", "-XX:+UseSerialGC",
+                compressedOops ? "-XX:+UseCompressedOops" : "-XX:-UseCompressedOops"), mainClass, "--measure", name);
+
+        Map<Integer, Double> result = new HashMap<>();
+        for (String line : lines) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length == 2 && fields[0].matches("\\d+")) {
+                result.put(Integer.parseInt(fields[0]), Double.parseDouble(fields[1]));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Bracket Validation Benchmark
+ *
+ * BracketValidator on a generated file against StackPracticeProblems.isValid.
+ * Timing and allocation come from StackBenchmark.measure.
+ *
+ * The benchmark writes a temporary file of the given size and deletes it
+ * afterwards, so it is not part of StackBenchmark's main.
+ *
+ * Usage:
+ *   java BracketBenchmark [megabytes]   default 256; e.g. 2048 for a 2 GB file
+ */
+public class BracketBenchmark {
+    // Prevents the JIT from removing work whose result is never used
+    private static long sink;
+
+    /**
+     * Validates a generated file of the given size (Mops/s = MB/s) through a
+     * memory mapping, with a single bracket type, and through a Reader; also
+     * an in-memory array, and StackPracticeProblems.isValid on a 16 MB prefix.
+     */
+    public static void compareBracketValidation(int megabytes) throws java.io.IOException {
+        System.out.println("\n===== Bracket Validation (" + megabytes + " MB file, Mops/s = MB/s) =====\n");
+
+        long bytes = (long) megabytes << 20;
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("brackets", ".txt");
+        try {
+            BracketValidator.generate(file, bytes);
+            BracketValidator all = new BracketValidator();
+            BracketValidator parentheses = new BracketValidator("()");
+
+            StackBenchmark.measure("mapped file", bytes, () -> {
+                try {
+                    sink += all.validate(file).ordinal();
+                } catch (java.io.IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            });
+            StackBenchmark.measure("mapped file, () only", bytes, () -> {
+                try {
+                    sink += parentheses.validate(file).ordinal();
+                } catch (java.io.IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            });
+            StackBenchmark.measure("Reader (UTF-8)", bytes, () -> {
+                try (java.io.Reader in = java.nio.file.Files.newBufferedReader(file)) {
+                    sink += all.validate(in).ordinal();
+                } catch (java.io.IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            });
+
+            byte[] prefix = new byte[(int) Math.min(bytes, 16 << 20)];
+            try (java.io.InputStream in = java.nio.file.Files.newInputStream(file)) {
+                in.readNBytes(prefix, 0, prefix.length);
+            }
+            StackBenchmark.measure("byte[] in memory", prefix.length, () -> {
+                all.reset();
+                all.accept(prefix, 0, prefix.length);
+                sink += all.depth();
+            });
+            String text = new String(prefix, java.nio.charset.StandardCharsets.ISO_8859_1);
+            StackBenchmark.measure("StackPracticeProblems.isValid", prefix.length,
+                    () -> sink += StackPracticeProblems.isValid(text) ? 1 : 0);
+        } finally {
+            java.nio.file.Files.delete(file);
+        }
+    }
+
+    public static void main(String args[]) throws java.io.IOException {
+        compareBracketValidation(args.length > 0 ? Integer.parseInt(args[0]) : 256);
+    }
+}
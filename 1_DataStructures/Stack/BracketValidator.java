@@ -0,0 +1,463 @@
+/**
+ * Streaming Bracket Validator
+ *
+ * StackApplications.checkBalancedParentheses and StackPracticeProblems.isValid
+ * need the whole input as a String and keep a Stack<Character>. This
+ * validator consumes input in pieces - char or byte arrays, a Reader, a
+ * CharBuffer, a ByteBuffer, or a file mapped into memory - so inputs of many
+ * gigabytes are checked in constant memory apart from the bracket stack
+ * itself:
+ * - each open bracket is pushed as a one-byte type id on a byte[] stack
+ *   (one byte per nesting level)
+ * - with a single bracket type, e.g. new BracketValidator("()"), the stack
+ *   is replaced by a depth counter
+ * - characters are classified through a lookup table, and the stack update
+ *   is branch-free: every character writes its class at the top of the stack
+ *   (a no-op push unless it is an open bracket), and the stack pointer moves
+ *   by +1, -1 or 0. Brackets at random positions then cost no branch
+ *   mispredictions; the only branch is the error check, which is never taken
+ *   on valid input.
+ *
+ * On the first error, validation stops and reports the error and its offset
+ * (in chars for char input, in bytes for byte input):
+ * - UNEXPECTED_CLOSE: a closing bracket with nothing open
+ * - MISMATCHED_CLOSE: a closing bracket of the wrong type
+ * - UNCLOSED: input ended with brackets still open (offset = input length)
+ *
+ * Byte input is treated as ASCII-compatible (UTF-8, ISO-8859-1, ...):
+ * brackets are ASCII, and bytes of multi-byte UTF-8 characters are never
+ * mistaken for them.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(maximum nesting depth) bytes, O(1) with one bracket type
+ */
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BracketValidator {
+    /**
+     * Result of a validation
+     */
+    public enum Status {
+        VALID,
+        UNEXPECTED_CLOSE,
+        MISMATCHED_CLOSE,
+        UNCLOSED
+    }
+
+    private static final int CHUNK_SIZE = 1 << 16; // Buffer size for Readers and mapped files
+    private static final long MAP_WINDOW = 1L << 30; // Bytes of a file mapped at a time
+
+    // classes[c] is 0 for other characters, t for an open bracket of type t,
+    // and -t for a close bracket of type t (t from 1)
+    private final byte[] classes = new byte[256];
+    private final boolean singleType;
+    private final byte open; // The brackets in single-type mode
+    private final byte close;
+
+    private byte[] stack = new byte[64]; // stack[0] is a sentinel 0 below the first open bracket
+    private int top = 1; // Next free slot of stack
+    private long depth; // Single-type mode only
+    private long position; // Offset of the next character or byte
+    private Status status = Status.VALID;
+    private long errorOffset = -1;
+
+    /**
+     * Creates a validator for (), [] and {}
+     */
+    public BracketValidator() {
+        this("()[]{}");
+    }
+
+    /**
+     * Creates a validator for the given pairs, e.g. "()[]" or "<>"
+     */
+    public BracketValidator(String pairs) {
+        if (pairs.isEmpty() || pairs.length() % 2 != 0 || pairs.length() > 2 * 127) {
+            throw new IllegalArgumentException("Expected open/close pairs, got \"" + pairs + "\"");
+        }
+        for (int i = 0; i < pairs.length(); i++) {
+            char c = pairs.charAt(i);
+            if (c >= 128 || classes[c] != 0) {
+                throw new IllegalArgumentException("Brackets must be distinct ASCII characters: \"" + pairs + "\"");
+            }
+            int type = i / 2 + 1;
+            classes[c] = (byte) (i % 2 == 0 ? type : -type);
+        }
+        singleType = pairs.length() == 2;
+        open = (byte) pairs.charAt(0);
+        close = (byte) pairs.charAt(1);
+    }
+
+    /**
+     * Starts over with empty input
+     */
+    public void reset() {
+        top = 1;
+        depth = 0;
+        position = 0;
+        status = Status.VALID;
+        errorOffset = -1;
+    }
+
+    private boolean fail(Status error, long offset) {
+        status = error;
+        errorOffset = offset;
+        return false;
+    }
+
+    // Makes room for up to length more open brackets
+    private byte[] ensureCapacity(int length) {
+        if (stack.length - top <= length) {
+            stack = java.util.Arrays.copyOf(stack, Math.max(stack.length * 2, top + length + 1));
+        }
+        return stack;
+    }
+
+    /**
+     * Checks the next bytes of input
+     *
+     * @return false once an error has been found; further input is ignored
+     * Time Complexity: O(length)
+     */
+    public boolean accept(byte[] input, int offset, int length) {
+        if (status != Status.VALID) {
+            return false;
+        }
+        int end = offset + length;
+        if (singleType) {
+            long d = depth;
+            for (int i = offset; i < end; i++) {
+                byte b = input[i];
+                d += (b == open ? 1 : 0) - (b == close ? 1 : 0);
+                if (d < 0) {
+                    return fail(Status.UNEXPECTED_CLOSE, position + i - offset);
+                }
+            }
+            depth = d;
+        } else {
+            byte[] classes = this.classes;
+            for (int from = offset; from < end; from += CHUNK_SIZE) {
+                int to = Math.min(end, from + CHUNK_SIZE);
+                byte[] stack = ensureCapacity(to - from);
+                int top = this.top;
+                for (int i = from; i < to; i++) {
+                    int type = classes[input[i] & 0xFF]; // 0, t or -t
+                    int closing = type >> 31; // -1 for a close bracket, else 0
+                    stack[top] = (byte) type; // Kept only if it is an open bracket
+                    if ((closing & (stack[top - 1] + type)) != 0) {
+                        return fail(top == 1 ? Status.UNEXPECTED_CLOSE : Status.MISMATCHED_CLOSE,
+                                position + i - offset);
+                    }
+                    top += ((-type) >>> 31) + closing; // +1 open, -1 close, 0 other
+                }
+                this.top = top;
+            }
+        }
+        position += length;
+        return true;
+    }
+
+    /**
+     * Checks the next chars of input
+     *
+     * @return false once an error has been found; further input is ignored
+     * Time Complexity: O(length)
+     */
+    public boolean accept(char[] input, int offset, int length) {
+        if (status != Status.VALID) {
+            return false;
+        }
+        int end = offset + length;
+        if (singleType) {
+            long d = depth;
+            for (int i = offset; i < end; i++) {
+                char c = input[i];
+                d += (c == open ? 1 : 0) - (c == close ? 1 : 0);
+                if (d < 0) {
+                    return fail(Status.UNEXPECTED_CLOSE, position + i - offset);
+                }
+            }
+            depth = d;
+        } else {
+            byte[] classes = this.classes;
+            for (int from = offset; from < end; from += CHUNK_SIZE) {
+                int to = Math.min(end, from + CHUNK_SIZE);
+                byte[] stack = ensureCapacity(to - from);
+                int top = this.top;
+                for (int i = from; i < to; i++) {
+                    char c = input[i];
+                    int type = c < 128 ? classes[c] : 0; // 0, t or -t
+                    int closing = type >> 31; // -1 for a close bracket, else 0
+                    stack[top] = (byte) type; // Kept only if it is an open bracket
+                    if ((closing & (stack[top - 1] + type)) != 0) {
+                        return fail(top == 1 ? Status.UNEXPECTED_CLOSE : Status.MISMATCHED_CLOSE,
+                                position + i - offset);
+                    }
+                    top += ((-type) >>> 31) + closing; // +1 open, -1 close, 0 other
+                }
+                this.top = top;
+            }
+        }
+        position += length;
+        return true;
+    }
+
+    /**
+     * Checks the remaining chars of a buffer and advances its position
+     */
+    public boolean accept(CharBuffer input) {
+        if (input.hasArray()) {
+            int length = input.remaining();
+            boolean ok = accept(input.array(), input.arrayOffset() + input.position(), length);
+            input.position(input.position() + length);
+            return ok;
+        }
+        char[] chunk = new char[Math.min(CHUNK_SIZE, input.remaining())];
+        while (input.hasRemaining()) {
+            int length = Math.min(chunk.length, input.remaining());
+            input.get(chunk, 0, length);
+            if (!accept(chunk, 0, length)) {
+                return false;
+            }
+        }
+        return status == Status.VALID;
+    }
+
+    /**
+     * Checks the remaining bytes of a buffer and advances its position
+     */
+    public boolean accept(ByteBuffer input) {
+        if (input.hasArray()) {
+            int length = input.remaining();
+            boolean ok = accept(input.array(), input.arrayOffset() + input.position(), length);
+            input.position(input.position() + length);
+            return ok;
+        }
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, input.remaining())];
+        while (input.hasRemaining()) {
+            int length = Math.min(chunk.length, input.remaining());
+            input.get(chunk, 0, length); // Bulk copy; much faster than get() per byte
+            if (!accept(chunk, 0, length)) {
+                return false;
+            }
+        }
+        return status == Status.VALID;
+    }
+
+    /**
+     * Ends the input: reports UNCLOSED if brackets are still open
+     */
+    public Status finish() {
+        if (status == Status.VALID && depth() > 0) {
+            fail(Status.UNCLOSED, position);
+        }
+        return status;
+    }
+
+    /**
+     * Validates everything a Reader returns (offsets in chars)
+     * Time Complexity: O(n)
+     */
+    public Status validate(Reader in) throws IOException {
+        reset();
+        char[] chunk = new char[CHUNK_SIZE];
+        for (int length = in.read(chunk); length >= 0; length = in.read(chunk)) {
+            if (!accept(chunk, 0, length)) {
+                break;
+            }
+        }
+        return finish();
+    }
+
+    /**
+     * Validates the remaining chars of a buffer (offsets in chars)
+     * Time Complexity: O(n)
+     */
+    public Status validate(CharBuffer input) {
+        reset();
+        accept(input);
+        return finish();
+    }
+
+    /**
+     * Validates a file by mapping it into memory, MAP_WINDOW bytes at a time
+     * (offsets in bytes)
+     * Time Complexity: O(n)
+     */
+    public Status validate(Path file) throws IOException {
+        reset();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long start = 0; start < size && status == Status.VALID; start += MAP_WINDOW) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(MAP_WINDOW, size - start));
+                accept(window);
+            }
+        }
+        return finish();
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * Offset of the first error, or -1 if none was found
+     */
+    public long errorOffset() {
+        return errorOffset;
+    }
+
+    /**
+     * Number of brackets currently open
+     */
+    public long depth() {
+        return singleType ? depth : top - 1;
+    }
+
+    /**
+     * Writes a file of about the given size with well-nested (), [] and {}
+     * (depth up to 64) between runs of other text, for benchmarks
+     */
+    static void generate(Path file, long bytes) throws IOException {
+        java.util.Random random = new java.util.Random(25);
+        byte[] open = { '(', '[', '{' };
+        byte[] close = { ')', ']', '}' };
+        byte[] pending = new byte[64]; // Closers of the brackets still open
+        int top = 0;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        try (java.io.OutputStream out = java.nio.file.Files.newOutputStream(file)) {
+            for (long written = 0; written < bytes; written += chunk.length) {
+                boolean last = written + chunk.length >= bytes;
+                int limit = last ? chunk.length - pending.length : chunk.length; // Leave room to close everything
+                for (int i = 0; i < chunk.length; i++) {
+                    int r = random.nextInt(16);
+                    if (r == 0 && top < pending.length && i < limit) {
+                        int type = random.nextInt(3);
+                        chunk[i] = open[type];
+                        pending[top++] = close[type];
+                    } else if (r == 1 && top > 0 && i < limit) {
+                        chunk[i] = pending[--top];
+                    } else {
+                        chunk[i] = (byte) ('a' + r);
+                    }
+                }
+                if (last) {
+                    int start = chunk.length - top;
+                    for (int i = start; i < chunk.length; i++) {
+                        chunk[i] = pending[--top];
+                    }
+                }
+                out.write(chunk);
+            }
+        }
+    }
+
+    /**
+     * Random short strings over brackets and letters, validated in one piece
+     * and in random pieces, compared with StackPracticeProblems.isValid and
+     * with the offset found by a plain Stack<Character> scan
+     */
+    public static void crossCheck(int strings) {
+        java.util.Random random = new java.util.Random(25);
+        String alphabet = "()[]{}ab";
+        BracketValidator validator = new BracketValidator();
+        boolean passed = true;
+
+        for (int s = 0; s < strings; s++) {
+            StringBuilder text = new StringBuilder();
+            if (s % 2 == 0) {
+                // Balanced nesting, so that many strings are valid; every other one has a character removed
+                appendBalanced(text, random, 4);
+                if (s % 4 == 0 && text.length() > 0) {
+                    text.deleteCharAt(random.nextInt(text.length())); // Usually breaks it
+                }
+            } else {
+                // Uniformly random: almost always invalid, with errors at every kind of position
+                int length = random.nextInt(30);
+                for (int i = 0; i < length; i++) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String input = text.toString();
+
+            long expectedOffset = referenceErrorOffset(input);
+            validator.validate(CharBuffer.wrap(input));
+            passed &= (validator.status() == Status.VALID) == StackPracticeProblems.isValid(input);
+            passed &= validator.errorOffset() == expectedOffset;
+
+            // Same input as bytes, fed in random pieces
+            byte[] bytes = input.getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+            validator.reset();
+            for (int i = 0; i < bytes.length;) {
+                int piece = Math.min(bytes.length - i, random.nextInt(5));
+                validator.accept(bytes, i, piece);
+                i += piece;
+            }
+            validator.finish();
+            passed &= validator.errorOffset() == expectedOffset;
+        }
+
+        // Single-type mode against the general mode on parentheses only
+        BracketValidator parentheses = new BracketValidator("()");
+        for (String input : new String[] { "(()())", "())(", "((", "", "a(b)c)", "(((())))" }) {
+            validator.validate(CharBuffer.wrap(input));
+            parentheses.validate(CharBuffer.wrap(input));
+            passed &= validator.status() == parentheses.status()
+                    && validator.errorOffset() == parentheses.errorOffset();
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+    }
+
+    private static void appendBalanced(StringBuilder text, java.util.Random random, int depth) {
+        int parts = random.nextInt(3);
+        for (int i = 0; i < parts; i++) {
+            if (depth == 0 || random.nextInt(3) == 0) {
+                text.append('a');
+                continue;
+            }
+            int type = random.nextInt(3);
+            text.append("([{".charAt(type));
+            appendBalanced(text, random, depth - 1);
+            text.append(")]}".charAt(type));
+        }
+    }
+
+    // Offset of the first error with a java.util.Stack<Character>, or -1
+    private static long referenceErrorOffset(String input) {
+        java.util.Stack<Character> stack = new java.util.Stack<>();
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int open = "([{".indexOf(c);
+            int close = ")]}".indexOf(c);
+            if (open >= 0) {
+                stack.push(c);
+            } else if (close >= 0 && (stack.isEmpty() || stack.pop() != "([{".charAt(close))) {
+                return i;
+            }
+        }
+        return stack.isEmpty() ? -1 : input.length();
+    }
+
+    public static void main(String args[]) throws IOException {
+        System.out.println("===== Streaming Bracket Validation =====\n");
+
+        BracketValidator validator = new BracketValidator();
+        for (String input : new String[] { "(a+b)*{c-d}", "(a+b))*c", "((a+b)*(c-d)", "{[(])}", "f(x[i]) + {y}" }) {
+            Status status = validator.validate(new java.io.StringReader(input));
+            System.out.printf("%-16s-> %s%s\n", input, status,
+                    status == Status.VALID ? "" : " at offset " + validator.errorOffset());
+        }
+        // Expected: VALID, UNEXPECTED_CLOSE at 5, UNCLOSED at 12, MISMATCHED_CLOSE at 3, VALID
+
+        System.out.println("\nCross-check on 10^5 random strings:");
+        crossCheck(100000);
+    }
+}
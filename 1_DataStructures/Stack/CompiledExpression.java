@@ -0,0 +1,386 @@
+/**
+ * Compiled Expression
+ *
+ * StackApplications.infixToPostfix and evaluatePostfix work on single
+ * characters and redo all the parsing on every call. This class compiles an
+ * infix expression once into postfix bytecode and then evaluates it as often
+ * as needed:
+ * - operands may be multi-digit numbers, negative numbers or variables
+ * - the bytecode is an int[] in which each instruction holds an opcode in
+ *   its low 8 bits and an argument (constant or variable index) above it
+ * - evaluation runs on a caller-supplied long[] operand stack, so it does not
+ *   allocate; the stack depth needed is known after compiling
+ *
+ * Supported syntax: + - * / % with the usual precedence, ^ (power, right
+ * associative, binds tighter than unary minus so -2^2 is -4), unary minus,
+ * parentheses, min(a, b, ...), max(a, b, ...) and abs(a); compile(infix,
+ * table) accepts operators and functions registered in an OperatorTable.
+ * Arithmetic is on long and wraps around on overflow like Java's operators
+ * do; division by zero throws ArithmeticException.
+ *
+ * Compiling is done by ExpressionParser, which emits instructions directly
+ * through a Builder, with no intermediate postfix String.
+ *
+ * Time Complexity:
+ * - compile: O(n) in the length of the expression
+ * - evaluate: O(m) in the number of instructions
+ */
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+public final class CompiledExpression {
+    // Opcodes (low 8 bits of an instruction)
+    static final int CONST = 0; // Push constants[argument]
+    static final int LOAD = 1; // Push variables[argument]
+    static final int ADD = 2;
+    static final int SUB = 3;
+    static final int MUL = 4;
+    static final int DIV = 5;
+    static final int MOD = 6;
+    static final int POW = 7;
+    static final int NEG = 8;
+    static final int MIN = 9;
+    static final int MAX = 10;
+    static final int ABS = 11;
+    static final int CALL1 = 12; // Apply unaryCalls[argument] to the top operand
+    static final int CALL2 = 13; // Apply binaryCalls[argument] to the top two operands
+
+    private static final String[] SYMBOLS = { null, null, "+", "-", "*", "/", "%", "^", "neg", "min", "max", "abs" };
+
+    private static final OperatorTable STANDARD = OperatorTable.standard();
+
+    private final String source;
+    final int[] code;
+    final long[] constants;
+    private final String[] variables;
+    final LongUnaryOperator[] unaryCalls;
+    final LongBinaryOperator[] binaryCalls;
+    private final String[] unaryNames;
+    private final String[] binaryNames;
+    private final int maxStackDepth;
+
+    private CompiledExpression(String source, int[] code, long[] constants, String[] variables,
+            LongUnaryOperator[] unaryCalls, String[] unaryNames, LongBinaryOperator[] binaryCalls,
+            String[] binaryNames, int maxStackDepth) {
+        this.source = source;
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+        this.unaryCalls = unaryCalls;
+        this.unaryNames = unaryNames;
+        this.binaryCalls = binaryCalls;
+        this.binaryNames = binaryNames;
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    static int opcode(int instruction) {
+        return instruction & 0xFF;
+    }
+
+    static int argument(int instruction) {
+        return instruction >>> 8;
+    }
+
+    /**
+     * Collects instructions, constants and variable names while an
+     * expression is compiled, and tracks the operand stack depth
+     */
+    static final class Builder {
+        private int[] code = new int[16];
+        private int length;
+        private long[] constants = new long[8];
+        private int constantCount;
+        private final Map<String, Integer> variableIndex = new HashMap<>();
+        private final java.util.List<LongUnaryOperator> unaryCalls = new java.util.ArrayList<>();
+        private final java.util.List<String> unaryNames = new java.util.ArrayList<>();
+        private final java.util.List<LongBinaryOperator> binaryCalls = new java.util.ArrayList<>();
+        private final java.util.List<String> binaryNames = new java.util.ArrayList<>();
+        private int depth;
+        private int maxDepth;
+
+        private void append(int instruction) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, length * 2);
+            }
+            code[length++] = instruction;
+        }
+
+        void constant(long value) {
+            if (constantCount == constants.length) {
+                constants = Arrays.copyOf(constants, constantCount * 2);
+            }
+            constants[constantCount] = value;
+            append(CONST | constantCount++ << 8);
+            maxDepth = Math.max(maxDepth, ++depth);
+        }
+
+        void load(String name) {
+            Integer index = variableIndex.get(name);
+            if (index == null) {
+                index = variableIndex.size();
+                variableIndex.put(name, index);
+            }
+            append(LOAD | index << 8);
+            maxDepth = Math.max(maxDepth, ++depth);
+        }
+
+        /**
+         * Appends an operator that pops arity operands and pushes one result
+         */
+        void operator(int opcode, int arity) {
+            // Fold negation of a literal into the literal itself
+            if (opcode == NEG && length > 0 && opcode(code[length - 1]) == CONST) {
+                int index = argument(code[length - 1]);
+                constants[index] = -constants[index];
+                return;
+            }
+            append(opcode);
+            depth -= arity - 1;
+        }
+
+        /**
+         * Appends a call of a registered one-operand operator or function
+         */
+        void call(String name, LongUnaryOperator function) {
+            append(CALL1 | unaryCalls.size() << 8);
+            unaryCalls.add(function);
+            unaryNames.add(name);
+        }
+
+        /**
+         * Appends a call of a registered two-operand operator or function
+         */
+        void call(String name, LongBinaryOperator function) {
+            append(CALL2 | binaryCalls.size() << 8);
+            binaryCalls.add(function);
+            binaryNames.add(name);
+            depth--;
+        }
+
+        CompiledExpression build(String source) {
+            String[] names = new String[variableIndex.size()];
+            variableIndex.forEach((name, index) -> names[index] = name);
+            return new CompiledExpression(source, Arrays.copyOf(code, length),
+                    Arrays.copyOf(constants, constantCount), names,
+                    unaryCalls.toArray(new LongUnaryOperator[0]), unaryNames.toArray(new String[0]),
+                    binaryCalls.toArray(new LongBinaryOperator[0]), binaryNames.toArray(new String[0]), maxDepth);
+        }
+    }
+
+    /**
+     * Compiles an infix expression
+     *
+     * @throws IllegalArgumentException if the expression is malformed; the
+     *         message gives the position
+     * Time Complexity: O(n)
+     */
+    public static CompiledExpression compile(String infix) {
+        return ExpressionParser.parse(infix, STANDARD);
+    }
+
+    /**
+     * Compiles an infix expression using the operators and functions of the
+     * given table
+     *
+     * @throws IllegalArgumentException if the expression is malformed
+     * Time Complexity: O(n)
+     */
+    public static CompiledExpression compile(String infix, OperatorTable table) {
+        return ExpressionParser.parse(infix, table);
+    }
+
+    /**
+     * Variable names, in the order their values are passed to evaluate
+     */
+    public String[] variables() {
+        return variables.clone();
+    }
+
+    /**
+     * Position of a variable in the values passed to evaluate, or -1
+     */
+    public int variableIndex(String name) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Number of operand stack slots evaluate needs
+     */
+    public int maxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * A fresh operand stack large enough for this expression
+     */
+    public long[] newStack() {
+        return new long[maxStackDepth];
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Evaluates the expression without allocating
+     *
+     * @param values variable values, in the order of variables()
+     * @param stack  operand stack with at least maxStackDepth() slots
+     * Time Complexity: O(m)
+     */
+    public long evaluate(long[] values, long[] stack) {
+        int sp = 0; // Next free stack slot
+        for (int instruction : code) {
+            switch (instruction & 0xFF) {
+                case CONST:
+                    stack[sp++] = constants[instruction >>> 8];
+                    break;
+                case LOAD:
+                    stack[sp++] = values[instruction >>> 8];
+                    break;
+                case ADD:
+                    sp--;
+                    stack[sp - 1] += stack[sp];
+                    break;
+                case SUB:
+                    sp--;
+                    stack[sp - 1] -= stack[sp];
+                    break;
+                case MUL:
+                    sp--;
+                    stack[sp - 1] *= stack[sp];
+                    break;
+                case DIV:
+                    sp--;
+                    stack[sp - 1] /= stack[sp];
+                    break;
+                case MOD:
+                    sp--;
+                    stack[sp - 1] %= stack[sp];
+                    break;
+                case POW:
+                    sp--;
+                    stack[sp - 1] = power(stack[sp - 1], stack[sp]);
+                    break;
+                case NEG:
+                    stack[sp - 1] = -stack[sp - 1];
+                    break;
+                case MIN:
+                    sp--;
+                    stack[sp - 1] = Math.min(stack[sp - 1], stack[sp]);
+                    break;
+                case MAX:
+                    sp--;
+                    stack[sp - 1] = Math.max(stack[sp - 1], stack[sp]);
+                    break;
+                case ABS:
+                    stack[sp - 1] = Math.abs(stack[sp - 1]);
+                    break;
+                case CALL1:
+                    stack[sp - 1] = unaryCalls[instruction >>> 8].applyAsLong(stack[sp - 1]);
+                    break;
+                case CALL2:
+                    sp--;
+                    stack[sp - 1] = binaryCalls[instruction >>> 8].applyAsLong(stack[sp - 1], stack[sp]);
+                    break;
+            }
+        }
+        return stack[0];
+    }
+
+    /**
+     * Evaluates the expression with a newly allocated stack; use
+     * evaluate(values, stack) in loops
+     */
+    public long evaluate(long... values) {
+        if (values.length != variables.length) {
+            throw new IllegalArgumentException("Expected " + variables.length + " values, got " + values.length);
+        }
+        return evaluate(values, newStack());
+    }
+
+    /**
+     * base^exponent by repeated squaring, wrapping around on overflow
+     *
+     * @throws ArithmeticException for a negative exponent
+     * Time Complexity: O(log exponent)
+     */
+    static long power(long base, long exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Negative exponent");
+        }
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * The bytecode as postfix text, e.g. "a b 2 * +"
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int instruction : code) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            switch (opcode(instruction)) {
+                case CONST:
+                    text.append(constants[argument(instruction)]);
+                    break;
+                case LOAD:
+                    text.append(variables[argument(instruction)]);
+                    break;
+                case CALL1:
+                    text.append(unaryNames[argument(instruction)]);
+                    break;
+                case CALL2:
+                    text.append(binaryNames[argument(instruction)]);
+                    break;
+                default:
+                    text.append(SYMBOLS[opcode(instruction)]);
+            }
+        }
+        return text.toString();
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Compiled Expressions =====\n");
+
+        String[] expressions = { "23 + 4 * 10", "(a + b) * (c - d)", "-2 ^ 2", "2 ^ 3 ^ 2", "x * -3 + -(y - 100)",
+                "1000000 * 1000000 % 7", "max(a, b, c) - abs(min(-a, 5))" };
+        for (String expression : expressions) {
+            CompiledExpression compiled = compile(expression);
+            long[] values = new long[compiled.variables().length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 10 * (i + 1); // a, b, c, ... = 10, 20, 30, ...
+            }
+            System.out.printf("%-32s-> %-40s%s = %d\n", expression, compiled,
+                    Arrays.toString(compiled.variables()), compiled.evaluate(values));
+        }
+        // Expected results: 63, -300, -4, 512, 50, 1, 20 (variables are 10, 20, 30, 40 in order)
+
+        System.out.println("\nMalformed input:");
+        for (String expression : new String[] { "2 +", "(1 + 2", "1 + 2)", "3 4", "2 $ 3", "abs(1, 2)", "f(1)" }) {
+            try {
+                compile(expression);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+}
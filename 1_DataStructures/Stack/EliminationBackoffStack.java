@@ -0,0 +1,282 @@
+/**
+ * Elimination-backoff stack
+ *
+ * A lock-free stack (like TreiberStack) that uses the time it would spend
+ * backing off after a failed CAS to look for a partner instead. A push and a
+ * pop that meet cancel each other out: the popping thread takes the pushed
+ * value directly and neither of them touches the top of the stack. The more
+ * threads contend, the more likely they are to meet, so throughput can keep
+ * growing where a plain CAS stack would flatten out.
+ *
+ * Each slot of the elimination array holds at most one waiting offer:
+ * 1. A thread whose CAS failed picks a random slot.
+ * 2. If the slot is empty it parks its offer there and waits briefly.
+ *    If nobody takes it, it withdraws the offer and retries the stack.
+ * 3. If the slot holds an offer of the opposite kind (push vs pop), it
+ *    claims it with a CAS and completes the exchange.
+ *
+ * Stack nodes are never reused and a matched offer is never parked again,
+ * so the garbage collector rules out ABA problems, as in TreiberStack.
+ *
+ * It has the same push/pop/peek/isEmpty/size operations as
+ * StackComparison.LinkedListStack; pop and peek return -1 when empty.
+ *
+ * Time Complexity (without contention):
+ * - Push: O(1)
+ * - Pop: O(1)
+ * - Peek: O(1)
+ * - isEmpty: O(1)
+ * - size: O(1)
+ */
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EliminationBackoffStack implements StackMetrics {
+    private static final int DEFAULT_SLOTS = 8; // Size of the elimination array
+    private static final int WAIT_SPINS = 256; // How long a parked offer waits for a partner
+
+    /**
+     * Node class; immutable once pushed
+     */
+    private static class Node {
+        final int data;
+        final Node next;
+
+        Node(int data, Node next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A push or pop waiting in an elimination slot
+     */
+    private static class Offer {
+        final boolean isPush;
+        final int value; // Value being pushed (push offers only)
+        volatile int received; // Value handed over (pop offers only)
+        volatile boolean matched; // Set by the partner once the exchange is done
+
+        Offer(boolean isPush, int value) {
+            this.isPush = isPush;
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>(); // Top of the stack
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicReferenceArray<Offer> slots;
+
+    private final LongAdder casFailures = new LongAdder();
+    private final LongAdder eliminations = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    public EliminationBackoffStack() {
+        this(DEFAULT_SLOTS);
+    }
+
+    public EliminationBackoffStack(int eliminationSlots) {
+        slots = new AtomicReferenceArray<>(Math.max(1, eliminationSlots));
+    }
+
+    /**
+     * Tries to complete an operation through a random elimination slot
+     *
+     * @return true if a partner completed the exchange (for a pop offer the
+     *         value is then in mine.received), false if none was found
+     */
+    private boolean tryEliminate(Offer mine) {
+        int index = ThreadLocalRandom.current().nextInt(slots.length());
+        Offer waiting = slots.get(index);
+
+        if (waiting == null) {
+            // Step 2: Park our offer and wait for a partner
+            if (!slots.compareAndSet(index, null, mine)) {
+                return false;
+            }
+            for (int i = 0; i < WAIT_SPINS; i++) {
+                if (mine.matched) {
+                    return true;
+                }
+                Thread.onSpinWait();
+            }
+            if (slots.compareAndSet(index, mine, null)) {
+                return false; // Withdrawn, nobody came
+            }
+            // A partner claimed the slot just now; wait for it to finish
+            while (!mine.matched) {
+                Thread.onSpinWait();
+            }
+            return true;
+        }
+
+        // Step 3: Claim an opposite offer and complete the exchange
+        if (waiting.isPush != mine.isPush && slots.compareAndSet(index, waiting, null)) {
+            if (mine.isPush) {
+                waiting.received = mine.value;
+            } else {
+                mine.received = waiting.value;
+            }
+            waiting.matched = true;
+            eliminations.increment(); // Counted once per pair, by the claiming side
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds an element to the top of the stack
+     * Time Complexity: O(1)
+     */
+    public void push(int data) {
+        Offer offer = null;
+        while (true) {
+            Node top = head.get();
+            if (head.compareAndSet(top, new Node(data, top))) {
+                size.incrementAndGet();
+                return;
+            }
+            casFailures.increment();
+
+            if (offer == null) {
+                offer = new Offer(true, data);
+            }
+            if (tryEliminate(offer)) {
+                return;
+            }
+            retries.increment();
+        }
+    }
+
+    /**
+     * Removes and returns the top element from the stack
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1)
+     */
+    public int pop() {
+        while (true) {
+            Node top = head.get();
+            if (top == null) {
+                return -1;
+            }
+            if (head.compareAndSet(top, top.next)) {
+                size.decrementAndGet();
+                return top.data;
+            }
+            casFailures.increment();
+
+            // A fresh offer each time, since a matched offer keeps its value
+            Offer offer = new Offer(false, 0);
+            if (tryEliminate(offer)) {
+                return offer.received;
+            }
+            retries.increment();
+        }
+    }
+
+    /**
+     * Returns the top element without removing it
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1)
+     */
+    public int peek() {
+        Node top = head.get();
+        return top == null ? -1 : top.data;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Returns the number of elements.
+     * While other threads are pushing or popping this is only a snapshot.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public long casFailures() {
+        return casFailures.sum();
+    }
+
+    @Override
+    public long eliminations() {
+        return eliminations.sum();
+    }
+
+    @Override
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * Several threads push distinct values and pop concurrently; checks that
+     * every value is popped exactly once, including eliminated ones
+     */
+    public static void stressTest(int threads, int perThread) throws InterruptedException {
+        System.out.println("\n===== Stress Test (" + threads + " threads x " + perThread + " values) =====\n");
+
+        EliminationBackoffStack stack = new EliminationBackoffStack(2);
+        int total = threads * perThread;
+        java.util.concurrent.atomic.AtomicIntegerArray seen = new java.util.concurrent.atomic.AtomicIntegerArray(
+                total);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if (i % 2 == 1) {
+                        int value = stack.pop();
+                        if (value >= 0) {
+                            seen.incrementAndGet(value);
+                        }
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        while (!stack.isEmpty()) {
+            seen.incrementAndGet(stack.pop());
+        }
+
+        int wrong = 0;
+        for (int i = 0; i < total; i++) {
+            if (seen.get(i) != 1) {
+                wrong++;
+            }
+        }
+        System.out.println("Values popped a wrong number of times: " + wrong);
+        System.out.println("CAS failures: " + stack.casFailures() + ", eliminations: " + stack.eliminations()
+                + ", retries: " + stack.retries());
+        System.out.println(wrong == 0 ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        System.out.println("===== Elimination-Backoff Stack =====\n");
+
+        EliminationBackoffStack stack = new EliminationBackoffStack();
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        System.out.println("Top element: " + stack.peek()); // Expected: 30
+        System.out.println("Popped: " + stack.pop()); // Expected: 30
+        System.out.println("New top: " + stack.peek()); // Expected: 20
+        System.out.println("Size: " + stack.size()); // Expected: 2
+
+        stressTest(8, 200000);
+    }
+}
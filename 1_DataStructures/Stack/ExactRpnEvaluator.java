@@ -0,0 +1,393 @@
+/**
+ * Exact Reverse Polish Notation Evaluator
+ *
+ * StackPracticeProblems.evalRPN and StackApplications.evaluatePostfix compute
+ * in int: results silently wrap around on overflow, division by zero throws,
+ * and evaluatePostfix reports malformed input by returning -1, which is also
+ * a valid result. This evaluator never loses precision and reports problems
+ * as a Status:
+ * - operands are kept as long on a primitive long[] stack (the fast path)
+ * - every operation uses Math.addExact / subtractExact / multiplyExact; when
+ *   one overflows, only that result is redone in BigInteger and stored in a
+ *   parallel BigInteger[] slot
+ * - a BigInteger result that fits in a long again (e.g. after a division)
+ *   goes back to the fast path, so escalation stays local to the
+ *   sub-expressions that need it
+ * - numbers too long for a long are read as BigInteger
+ *
+ * Operators: + - * / % with Java semantics (division truncates toward zero,
+ * the remainder has the sign of the dividend).
+ *
+ * The evaluator keeps its stacks between calls, so once they are large
+ * enough, evaluating an expression that never overflows does not allocate.
+ * It must not be shared between threads.
+ *
+ * Time Complexity: O(n) tokens on the fast path; operations on escalated
+ * values cost as much as the BigInteger arithmetic
+ * Space Complexity: O(n)
+ */
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public class ExactRpnEvaluator {
+    /**
+     * Outcome of an evaluation
+     */
+    public enum Status {
+        OK,
+        INVALID_TOKEN, // Neither a number nor an operator
+        MISSING_OPERAND, // An operator found fewer than two values on the stack
+        EXTRA_OPERANDS, // More than one value left at the end (or none, for empty input)
+        DIVISION_BY_ZERO
+    }
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private long[] values = new long[16];
+    private BigInteger[] big = new BigInteger[16]; // Non-null where a slot has escalated
+    private int size;
+
+    private Status status = Status.OK;
+    private int errorIndex = -1;
+    private long result;
+    private BigInteger bigResult;
+
+    /**
+     * Evaluates tokens in the format of evalRPN: numbers (optionally signed)
+     * and the operators + - * / %
+     *
+     * @return OK, or the kind of error; errorIndex() gives the token
+     * Time Complexity: O(n)
+     */
+    public Status evaluate(String[] tokens) {
+        size = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            char c = token.length() == 1 ? token.charAt(0) : 0;
+            Status step = isOperator(c) ? apply(c) : pushNumber(token, 0, token.length());
+            if (step != Status.OK) {
+                return fail(step, i);
+            }
+        }
+        return finish(tokens.length);
+    }
+
+    /**
+     * Evaluates a postfix string in the format of evaluatePostfix: every
+     * character is a single-digit operand or an operator; spaces are skipped
+     *
+     * @return OK, or the kind of error; errorIndex() gives the character
+     * Time Complexity: O(n)
+     */
+    public Status evaluate(CharSequence postfix) {
+        size = 0;
+        for (int i = 0; i < postfix.length(); i++) {
+            char c = postfix.charAt(i);
+            Status step;
+            if (c >= '0' && c <= '9') {
+                step = push(c - '0');
+            } else if (isOperator(c)) {
+                step = apply(c);
+            } else if (c == ' ') {
+                continue;
+            } else {
+                step = Status.INVALID_TOKEN;
+            }
+            if (step != Status.OK) {
+                return fail(step, i);
+            }
+        }
+        return finish(postfix.length());
+    }
+
+    private static boolean isOperator(char c) {
+        return c == '+' || c == '-' || c == '*' || c == '/' || c == '%';
+    }
+
+    private Status fail(Status error, int index) {
+        status = error;
+        errorIndex = index;
+        clearBig();
+        return error;
+    }
+
+    private Status finish(int length) {
+        if (size != 1) {
+            return fail(Status.EXTRA_OPERANDS, length);
+        }
+        status = Status.OK;
+        errorIndex = -1;
+        result = values[0];
+        bigResult = big[0];
+        big[0] = null;
+        return Status.OK;
+    }
+
+    // Drops references to escalated values left on the stack
+    private void clearBig() {
+        for (int i = 0; i < size; i++) {
+            big[i] = null;
+        }
+        size = 0;
+    }
+
+    private Status push(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            big = Arrays.copyOf(big, size * 2);
+        }
+        values[size++] = value;
+        return Status.OK;
+    }
+
+    // Pushes a BigInteger, or its long value if it fits
+    private Status push(BigInteger value) {
+        if (value.bitLength() < 64) {
+            return push(value.longValue());
+        }
+        push(0);
+        big[size - 1] = value;
+        return Status.OK;
+    }
+
+    // Parses an optionally signed decimal number without allocating unless it exceeds a long
+    private Status pushNumber(String token, int from, int to) {
+        boolean negative = from < to && token.charAt(from) == '-';
+        int start = negative || from < to && token.charAt(from) == '+' ? from + 1 : from;
+        if (start == to) {
+            return Status.INVALID_TOKEN;
+        }
+        long value = 0; // Accumulated as a negative number so Long.MIN_VALUE fits
+        for (int i = start; i < to; i++) {
+            int digit = token.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Status.INVALID_TOKEN;
+            }
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                // Too long for a long: the rest must be digits too before BigInteger sees it
+                for (int j = i + 1; j < to; j++) {
+                    if (token.charAt(j) < '0' || token.charAt(j) > '9') {
+                        return Status.INVALID_TOKEN;
+                    }
+                }
+                return push(new BigInteger(token.substring(from, to)));
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                return push(LONG_MAX.add(BigInteger.ONE));
+            }
+            value = -value;
+        }
+        return push(value);
+    }
+
+    private Status apply(char operator) {
+        if (size < 2) {
+            return Status.MISSING_OPERAND;
+        }
+        int a = size - 2;
+        int b = size - 1;
+        size--;
+
+        if (big[a] == null && big[b] == null) {
+            long x = values[a];
+            long y = values[b];
+            try {
+                switch (operator) {
+                    case '+':
+                        values[a] = Math.addExact(x, y);
+                        return Status.OK;
+                    case '-':
+                        values[a] = Math.subtractExact(x, y);
+                        return Status.OK;
+                    case '*':
+                        values[a] = Math.multiplyExact(x, y);
+                        return Status.OK;
+                    case '/':
+                        if (y == 0) {
+                            return Status.DIVISION_BY_ZERO;
+                        }
+                        if (x == Long.MIN_VALUE && y == -1) {
+                            break; // The only long division that overflows
+                        }
+                        values[a] = x / y;
+                        return Status.OK;
+                    default:
+                        if (y == 0) {
+                            return Status.DIVISION_BY_ZERO;
+                        }
+                        values[a] = y == -1 ? 0 : x % y;
+                        return Status.OK;
+                }
+            } catch (ArithmeticException overflow) {
+                // Fall through to BigInteger
+            }
+        }
+
+        BigInteger x = big[a] != null ? big[a] : BigInteger.valueOf(values[a]);
+        BigInteger y = big[b] != null ? big[b] : BigInteger.valueOf(values[b]);
+        big[a] = null;
+        big[b] = null;
+        BigInteger value;
+        switch (operator) {
+            case '+':
+                value = x.add(y);
+                break;
+            case '-':
+                value = x.subtract(y);
+                break;
+            case '*':
+                value = x.multiply(y);
+                break;
+            default:
+                if (y.signum() == 0) {
+                    return Status.DIVISION_BY_ZERO;
+                }
+                value = operator == '/' ? x.divide(y) : x.remainder(y);
+        }
+        size--;
+        return push(value);
+    }
+
+    /**
+     * Status of the last evaluation
+     */
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * Index of the token or character where the last evaluation failed, or
+     * -1 if it succeeded
+     */
+    public int errorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * Whether the last result fits in a long
+     */
+    public boolean fitsInLong() {
+        return status == Status.OK && bigResult == null;
+    }
+
+    /**
+     * The last result as a long
+     *
+     * @throws IllegalStateException if the evaluation failed
+     * @throws ArithmeticException   if the result does not fit in a long
+     */
+    public long longValue() {
+        checkOk();
+        if (bigResult != null) {
+            throw new ArithmeticException("Result " + bigResult + " does not fit in a long");
+        }
+        return result;
+    }
+
+    /**
+     * The last result, exactly
+     *
+     * @throws IllegalStateException if the evaluation failed
+     */
+    public BigInteger value() {
+        checkOk();
+        return bigResult != null ? bigResult : BigInteger.valueOf(result);
+    }
+
+    private void checkOk() {
+        if (status != Status.OK) {
+            throw new IllegalStateException("Evaluation failed: " + status + " at " + errorIndex);
+        }
+    }
+
+    /**
+     * Random token arrays with operands up to 10^12 (so products overflow
+     * often), compared with a plain BigInteger evaluation
+     */
+    public static void crossCheck(int expressions) {
+        java.util.Random random = new java.util.Random(23);
+        ExactRpnEvaluator evaluator = new ExactRpnEvaluator();
+        boolean passed = true;
+        int escalated = 0;
+
+        for (int e = 0; e < expressions; e++) {
+            int operands = 2 + random.nextInt(12);
+            String[] tokens = new String[2 * operands - 1];
+            java.util.ArrayDeque<BigInteger> reference = new java.util.ArrayDeque<>();
+            int length = 0;
+            int pending = 0; // Operands on the stack
+            int remaining = operands;
+            Status expected = Status.OK;
+            while (length < tokens.length) {
+                if (remaining > 0 && (pending < 2 || random.nextBoolean())) {
+                    long operand = random.nextInt(4) == 0 ? random.nextInt(7) - 3
+                            : (long) (random.nextDouble() * 2e12) - 1000000000000L;
+                    tokens[length++] = Long.toString(operand);
+                    reference.push(BigInteger.valueOf(operand));
+                    pending++;
+                    remaining--;
+                } else {
+                    char operator = "+-*/%".charAt(random.nextInt(5));
+                    tokens[length++] = String.valueOf(operator);
+                    BigInteger y = reference.pop();
+                    BigInteger x = reference.pop();
+                    pending--;
+                    if ((operator == '/' || operator == '%') && y.signum() == 0) {
+                        expected = Status.DIVISION_BY_ZERO;
+                        break;
+                    }
+                    reference.push(operator == '+' ? x.add(y) : operator == '-' ? x.subtract(y)
+                            : operator == '*' ? x.multiply(y) : operator == '/' ? x.divide(y) : x.remainder(y));
+                }
+            }
+            String[] input = Arrays.copyOf(tokens, length);
+
+            Status status = evaluator.evaluate(input);
+            if (expected == Status.DIVISION_BY_ZERO) {
+                passed &= status == Status.DIVISION_BY_ZERO && evaluator.errorIndex() == length - 1;
+            } else {
+                passed &= status == Status.OK && evaluator.value().equals(reference.peek());
+                escalated += evaluator.fitsInLong() ? 0 : 1;
+            }
+        }
+
+        // Malformed input
+        passed &= evaluator.evaluate(new String[] { "1", "+" }) == Status.MISSING_OPERAND;
+        passed &= evaluator.evaluate(new String[] { "1", "2" }) == Status.EXTRA_OPERANDS;
+        passed &= evaluator.evaluate(new String[] { "1", "x", "+" }) == Status.INVALID_TOKEN
+                && evaluator.errorIndex() == 1;
+        passed &= evaluator.evaluate("23+a") == Status.INVALID_TOKEN && evaluator.errorIndex() == 3;
+        passed &= evaluator.evaluate(new String[] { "99999999999999999999x", "1", "+" }) == Status.INVALID_TOKEN
+                && evaluator.errorIndex() == 0;
+        passed &= evaluator.evaluate(new String[] { "1", "99999999999999999999999-5", "+" }) == Status.INVALID_TOKEN
+                && evaluator.errorIndex() == 1;
+        System.out.println((passed ? "PASSED" : "FAILED") + " (" + escalated + " results beyond long)");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Exact RPN Evaluation =====\n");
+
+        ExactRpnEvaluator evaluator = new ExactRpnEvaluator();
+        String[][] inputs = { { "2", "1", "+", "3", "*" }, // 9
+                { "2147483647", "1", "+" }, // 2147483648; evalRPN wraps to -2147483648
+                { "9223372036854775807", "2", "*", "4", "/" }, // 4611686018427387903: overflows, then fits again
+                { "99999999999999999999", "99999999999999999999", "*" }, // Beyond long
+                { "-9223372036854775808", "-1", "/" }, // 9223372036854775808
+                { "4", "0", "/" }, { "1", "+" }, { "1", "2" }, { "3", "four", "+" } };
+        for (String[] tokens : inputs) {
+            Status status = evaluator.evaluate(tokens);
+            System.out.printf("%-58s-> %s\n", Arrays.toString(tokens), status == Status.OK
+                    ? evaluator.value() + (evaluator.fitsInLong() ? "" : " (BigInteger)")
+                    : status + " at token " + evaluator.errorIndex());
+        }
+        System.out.println("\"12*3-2/45*+\" -> " + evaluator.evaluate("12*3-2/45*+") + " " + evaluator.value());
+        // Same input as StackApplications' example; expected 20
+
+        System.out.println("\nCross-check on 10^5 random expressions:");
+        crossCheck(100000);
+    }
+}
@@ -0,0 +1,306 @@
+/**
+ * Expression Benchmarks
+ *
+ * Compiling, parsing, batch and exact evaluation, and caching of expressions,
+ * each against the character-based StackApplications / StackPracticeProblems
+ * methods they replace. Timing and allocation come from StackBenchmark.measure.
+ */
+public class ExpressionBenchmark {
+    // Prevents the JIT from removing work whose result is never used
+    private static long sink;
+
+    /**
+     * n evaluations of one expression: compiled once and evaluated with a
+     * reused stack, versus compiled again for every evaluation. The
+     * character-based StackApplications.evaluatePostfix (output discarded)
+     * runs n / 1000 times on a single-digit equivalent for reference.
+     */
+    public static void compareCompiledExpression(int n) {
+        System.out.println("\n===== Compiled Expressions (" + n + " evaluations) =====\n");
+
+        String expression = "(price * quantity - discount) / 2 + tax * 3";
+        CompiledExpression cached = CompiledExpression.compile(expression);
+        long[] stack = cached.newStack();
+        long[] values = new long[cached.variables().length];
+
+        StackBenchmark.measure("compiled once", n, () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                values[0] = i; // price
+                sum += cached.evaluate(values, stack);
+            }
+            sink += sum;
+        });
+
+        StackBenchmark.measure("compiled every time", n, () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                values[0] = i;
+                sum += CompiledExpression.compile(expression).evaluate(values, stack);
+            }
+            sink += sum;
+        });
+
+        int characterRuns = n / 1000;
+        StackBenchmark.measure("StackApplications.evaluatePostfix", characterRuns, StackBenchmark.quietly(() -> {
+            long sum = 0;
+            for (int i = 0; i < characterRuns; i++) {
+                sum += StackApplications.evaluatePostfix("12*3-2/45*+");
+            }
+            sink += sum;
+        }));
+    }
+
+    /**
+     * Parses count generated expressions (1 to 40 operators each) with
+     * ExpressionParser; throughput is also given per character to compare with
+     * StackApplications.infixToPostfix on a single-letter expression
+     */
+    public static void compareExpressionParsing(int count) {
+        System.out.println("\n===== Expression Parsing (" + count + " expressions) =====\n");
+
+        ExpressionGenerator generator = new ExpressionGenerator(3, 8);
+        String[] expressions = new String[count];
+        long characters = 0;
+        for (int i = 0; i < count; i++) {
+            expressions[i] = generator.next(1 + i % 40);
+            characters += expressions[i].length();
+        }
+        System.out.printf("average length %.1f characters\n", (double) characters / count);
+
+        OperatorTable table = OperatorTable.standard();
+        StackBenchmark.measure("ExpressionParser (per expression)", count, () -> {
+            long sum = 0;
+            for (String expression : expressions) {
+                sum += ExpressionParser.parse(expression, table).maxStackDepth();
+            }
+            sink += sum;
+        });
+        StackBenchmark.measure("ExpressionParser (per character)", characters, () -> {
+            long sum = 0;
+            for (String expression : expressions) {
+                sum += ExpressionParser.parse(expression, table).maxStackDepth();
+            }
+            sink += sum;
+        });
+
+        String singleCharacters = "a+b*(c-d)/e^f^g-(h+i)*j-k/l+m*(n-o)";
+        int characterRuns = count / 100;
+        StackBenchmark.measure("infixToPostfix (per character)", (long) characterRuns * singleCharacters.length(),
+                StackBenchmark.quietly(() -> {
+                    long sum = 0;
+                    for (int i = 0; i < characterRuns; i++) {
+                        sum += StackApplications.infixToPostfix(singleCharacters).length();
+                    }
+                    sink += sum;
+                }));
+    }
+
+    /**
+     * Evaluates one formula over rows of int columns: per row with
+     * StackPracticeProblems.evalRPN (tokens rebuilt per row), per row with
+     * CompiledExpression, and column-wise with BatchEvaluator
+     */
+    public static void compareBatchEvaluation(int rows) {
+        System.out.println("\n===== Batch Evaluation (" + rows + " rows) =====\n");
+
+        CompiledExpression compiled = CompiledExpression.compile("(price * quantity - discount) / 2 + tax * 3");
+        java.util.Random random = new java.util.Random(8);
+        int[][] columns = new int[4][rows]; // price, quantity, discount, tax
+        for (int r = 0; r < rows; r++) {
+            columns[0][r] = random.nextInt(1000);
+            columns[1][r] = 1 + random.nextInt(20);
+            columns[2][r] = random.nextInt(100);
+            columns[3][r] = random.nextInt(50);
+        }
+        long[] out = new long[rows];
+
+        int rpnRows = rows / 100;
+        StackBenchmark.measure("evalRPN per row", rpnRows, () -> {
+            long sum = 0;
+            for (int r = 0; r < rpnRows; r++) {
+                sum += StackPracticeProblems.evalRPN(new String[] { Integer.toString(columns[0][r]),
+                        Integer.toString(columns[1][r]), "*", Integer.toString(columns[2][r]), "-", "2", "/",
+                        Integer.toString(columns[3][r]), "3", "*", "+" });
+            }
+            sink += sum;
+        });
+
+        long[] values = new long[4];
+        long[] stack = compiled.newStack();
+        StackBenchmark.measure("CompiledExpression per row", rows, () -> {
+            for (int r = 0; r < rows; r++) {
+                for (int v = 0; v < 4; v++) {
+                    values[v] = columns[v][r];
+                }
+                out[r] = compiled.evaluate(values, stack);
+            }
+            sink += out[rows - 1];
+        });
+
+        for (int blockSize : new int[] { 64, 1024, 16384 }) {
+            BatchEvaluator batch = new BatchEvaluator(compiled, blockSize);
+            StackBenchmark.measure("BatchEvaluator, block " + blockSize, rows, () -> {
+                batch.evaluate(columns, out, rows);
+                sink += out[rows - 1];
+            });
+        }
+    }
+
+    /**
+     * Token throughput of ExactRpnEvaluator against the int evaluators on
+     * input that never overflows, plus the cost of escalating to BigInteger
+     */
+    public static void compareExactEvaluation(int n) {
+        System.out.println("\n===== Exact RPN Evaluation (" + n + " expressions) =====\n");
+
+        // 64 expressions of 15 tokens with small operands: "a b + c * d - ..."
+        java.util.Random random = new java.util.Random(9);
+        String[][] small = new String[64][];
+        String[][] huge = new String[64][];
+        for (int e = 0; e < small.length; e++) {
+            small[e] = new String[15];
+            huge[e] = new String[15];
+            small[e][0] = Integer.toString(1 + random.nextInt(99));
+            huge[e][0] = Long.toString(Long.MAX_VALUE - random.nextInt(99));
+            for (int t = 1; t < 15; t += 2) {
+                small[e][t] = Integer.toString(1 + random.nextInt(99));
+                huge[e][t] = Long.toString(Long.MAX_VALUE - random.nextInt(99));
+                small[e][t + 1] = huge[e][t + 1] = String.valueOf("+-*/".charAt(random.nextInt(4)));
+            }
+        }
+        long tokens = 15L * n;
+
+        StackBenchmark.measure("evalRPN (int)", tokens, () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += StackPracticeProblems.evalRPN(small[i & 63]);
+            }
+            sink += sum;
+        });
+        ExactRpnEvaluator exact = new ExactRpnEvaluator();
+        StackBenchmark.measure("ExactRpnEvaluator", tokens, () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                exact.evaluate(small[i & 63]);
+                sum += exact.longValue();
+            }
+            sink += sum;
+        });
+        int overflowingRuns = n / 10;
+        StackBenchmark.measure("ExactRpnEvaluator, overflowing", 15L * overflowingRuns, () -> {
+            long sum = 0;
+            for (int i = 0; i < overflowingRuns; i++) {
+                exact.evaluate(huge[i & 63]);
+                sum += exact.value().signum();
+            }
+            sink += sum;
+        });
+
+        String postfix = "12*3-2/45*+";
+        int postfixRuns = n / 100;
+        StackBenchmark.measure("evaluatePostfix (int, per char)", (long) postfixRuns * postfix.length(),
+                StackBenchmark.quietly(() -> {
+                    long sum = 0;
+                    for (int i = 0; i < postfixRuns; i++) {
+                        sum += StackApplications.evaluatePostfix(postfix);
+                    }
+                    sink += sum;
+                }));
+        StackBenchmark.measure("ExactRpnEvaluator (per char)", (long) n * postfix.length(), () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                exact.evaluate(postfix);
+                sum += exact.longValue();
+            }
+            sink += sum;
+        });
+    }
+
+    /**
+     * Looks up expressions drawn from a Zipfian distribution (exponent 0.99)
+     * over distinct generated expressions, half of them constant, and
+     * evaluates each: compiled every time, through a synchronized
+     * access-ordered LinkedHashMap (exact LRU), and through ExpressionCache at
+     * several capacities
+     */
+    public static void compareExpressionCache(int distinct, int lookups) {
+        System.out.println("\n===== Expression Cache (Zipfian over " + distinct + " expressions) =====\n");
+
+        ExpressionGenerator constants = new ExpressionGenerator(11, 0);
+        ExpressionGenerator formulas = new ExpressionGenerator(12, 3);
+        String[] expressions = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            expressions[i] = (i % 2 == 0 ? constants : formulas).next(2 + i % 15);
+        }
+
+        // Inverse-CDF sampling of ranks 0..distinct-1 with weight 1 / (rank + 1)^0.99
+        double[] cdf = new double[distinct];
+        double total = 0;
+        for (int rank = 0; rank < distinct; rank++) {
+            total += 1 / Math.pow(rank + 1, 0.99);
+            cdf[rank] = total;
+        }
+        java.util.Random random = new java.util.Random(10);
+        int[] picks = new int[lookups];
+        for (int i = 0; i < lookups; i++) {
+            int rank = java.util.Arrays.binarySearch(cdf, random.nextDouble() * total);
+            picks[i] = Math.min(rank < 0 ? -rank - 1 : rank, distinct - 1);
+        }
+        long[][] arguments = new long[distinct][]; // Variable values, in each expression's order
+        for (int i = 0; i < distinct; i++) {
+            arguments[i] = new long[CompiledExpression.compile(expressions[i]).variables().length];
+            java.util.Arrays.fill(arguments[i], 5);
+        }
+
+        StackBenchmark.measure("compile every time", lookups, () -> {
+            long sum = 0;
+            for (int pick : picks) {
+                sum += CompiledExpression.compile(expressions[pick]).evaluate(arguments[pick]);
+            }
+            sink += sum;
+        });
+
+        int lruCapacity = distinct / 10;
+        java.util.Map<String, CompiledExpression> lru = java.util.Collections
+                .synchronizedMap(new java.util.LinkedHashMap<String, CompiledExpression>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(java.util.Map.Entry<String, CompiledExpression> eldest) {
+                        return size() > lruCapacity;
+                    }
+                });
+        long[] lruMisses = new long[1];
+        StackBenchmark.measure("LinkedHashMap LRU, " + lruCapacity, lookups, () -> {
+            long sum = 0;
+            for (int pick : picks) {
+                sum += lru.computeIfAbsent(ExpressionCache.normalize(expressions[pick]), key -> {
+                    lruMisses[0]++;
+                    return CompiledExpression.compile(key);
+                }).evaluate(arguments[pick]);
+            }
+            sink += sum;
+        });
+        System.out.printf("  hit rate %.1f%%\n",
+                100 - 100.0 * lruMisses[0] / ((2L + StackBenchmark.ROUNDS) * lookups)); // Warm-ups included
+
+        for (int capacity : new int[] { distinct / 100, distinct / 10, distinct }) {
+            ExpressionCache cache = new ExpressionCache(capacity);
+            StackBenchmark.measure("ExpressionCache, " + capacity, lookups, () -> {
+                long sum = 0;
+                for (int pick : picks) {
+                    sum += cache.evaluate(expressions[pick], arguments[pick]);
+                }
+                sink += sum;
+            });
+            System.out.printf("  hit rate %.1f%%, %d evictions\n", 100 * cache.hitRate(), cache.evictions());
+        }
+    }
+
+    public static void main(String args[]) {
+        compareCompiledExpression(1000000);
+        compareExpressionParsing(100000);
+        compareBatchEvaluation(1000000);
+        compareExactEvaluation(1000000);
+        compareExpressionCache(10000, 1000000);
+    }
+}
@@ -0,0 +1,300 @@
+/**
+ * Expression Cache
+ *
+ * A bounded cache of compiled expressions for traffic that keeps submitting
+ * the same expression strings. Each entry holds the CompiledExpression and,
+ * for an expression without variables, its value folded at insertion time,
+ * so evaluating a cached constant expression is a single map lookup.
+ *
+ * Keys are normalized first: whitespace is dropped except a single space
+ * between two names or numbers (where removing it would change the meaning),
+ * so "a+b", "a + b" and " a +  b " share one entry. Normalizing allocates,
+ * so each entry also remembers one other spelling (the first one seen) as an
+ * alias key: repeated lookups of the same text find it directly.
+ *
+ * Eviction uses CLOCK (second chance), an approximation of LRU:
+ * - entries sit in a ring; a hit only sets the entry's referenced flag
+ * - to make room, the clock hand sweeps the ring, clearing referenced flags,
+ *   and evicts the first entry that was not referenced since the last sweep
+ * Unlike a LinkedHashMap in access order, a hit does not reorder anything,
+ * so lookups need no lock: readers go through a ConcurrentHashMap and a
+ * volatile flag, and only insertions (after a miss) synchronize.
+ *
+ * Malformed expressions are not cached; compile throws every time.
+ *
+ * Time Complexity: lookup O(length of the expression); insertion O(1)
+ * amortized (each sweep step clears a flag set by an earlier hit)
+ * Space Complexity: O(capacity)
+ */
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ExpressionCache {
+    /**
+     * A cached expression
+     */
+    static final class Entry {
+        final String key;
+        final CompiledExpression compiled;
+        final boolean folded; // Whether value holds the result of a constant expression
+        final long value;
+        String alias; // Another spelling mapped to this entry, or null; guarded by the cache
+        volatile boolean referenced; // Set on every hit, cleared by the clock hand
+
+        Entry(String key, CompiledExpression compiled) {
+            this.key = key;
+            this.compiled = compiled;
+            boolean constant = compiled.variables().length == 0;
+            long result = 0;
+            if (constant) {
+                try {
+                    result = compiled.evaluate();
+                } catch (ArithmeticException e) {
+                    constant = false; // e.g. division by zero: let every evaluation throw
+                }
+            }
+            this.folded = constant;
+            this.value = result;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries; // By normalized key and by alias
+    private final Entry[] ring; // Guarded by this
+    private int count; // Guarded by this
+    private int hand; // Guarded by this
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpressionCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        entries = new ConcurrentHashMap<>(capacity * 8 / 3 + 1);
+        ring = new Entry[capacity];
+    }
+
+    /**
+     * The expression with insignificant whitespace removed; returns the same
+     * String if there is nothing to remove
+     * Time Complexity: O(n)
+     */
+    public static String normalize(String expression) {
+        int n = expression.length();
+        int i = 0;
+        // Fast path: find the first whitespace that has to go
+        for (; i < n; i++) {
+            if (Character.isWhitespace(expression.charAt(i)) && (expression.charAt(i) != ' '
+                    || i == 0 || i == n - 1 || !isWordPart(expression.charAt(i - 1))
+                    || !isWordPart(expression.charAt(i + 1)))) {
+                break;
+            }
+        }
+        if (i == n) {
+            return expression;
+        }
+
+        StringBuilder normalized = new StringBuilder(n).append(expression, 0, i);
+        boolean pendingSpace = false;
+        for (; i < n; i++) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && normalized.length() > 0 && isWordPart(normalized.charAt(normalized.length() - 1))
+                    && isWordPart(c)) {
+                normalized.append(' ');
+            }
+            pendingSpace = false;
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    // The cached entry for an expression, compiling and inserting it on a miss
+    private Entry entry(String expression) {
+        Entry entry = entries.get(expression);
+        if (entry == null) {
+            String key = normalize(expression);
+            if (key != expression) {
+                entry = entries.get(key);
+            }
+            if (entry == null) {
+                misses.increment();
+                return insert(new Entry(key, CompiledExpression.compile(key)), expression); // Compile outside the lock
+            }
+            if (entry.alias == null) {
+                addAlias(entry, expression);
+            }
+        }
+        if (!entry.referenced) {
+            entry.referenced = true; // Skip the write when already set, to keep the cache line shared
+        }
+        hits.increment();
+        return entry;
+    }
+
+    private synchronized void addAlias(Entry entry, String alias) {
+        if (entry.alias == null && entries.get(entry.key) == entry) { // Not evicted meanwhile
+            entry.alias = alias;
+            entries.put(alias, entry);
+        }
+    }
+
+    private synchronized Entry insert(Entry entry, String text) {
+        Entry existing = entries.get(entry.key);
+        if (existing != null) {
+            return existing; // Another thread compiled it meanwhile
+        }
+        if (count < ring.length) {
+            ring[count++] = entry;
+        } else {
+            while (ring[hand].referenced) {
+                ring[hand].referenced = false; // Second chance
+                hand = (hand + 1) % ring.length;
+            }
+            Entry victim = ring[hand];
+            entries.remove(victim.key);
+            if (victim.alias != null) {
+                entries.remove(victim.alias);
+            }
+            evictions.increment();
+            ring[hand] = entry;
+            hand = (hand + 1) % ring.length;
+        }
+        entries.put(entry.key, entry);
+        if (!text.equals(entry.key)) {
+            entry.alias = text;
+            entries.put(text, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * The compiled form of an expression, from the cache if possible
+     *
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public CompiledExpression compile(String expression) {
+        return entry(expression).compiled;
+    }
+
+    /**
+     * Evaluates an expression; constant expressions return their folded value
+     * without running any bytecode
+     *
+     * @param values variable values, in the order of compile(expression).variables()
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public long evaluate(String expression, long... values) {
+        Entry entry = entry(expression);
+        return entry.folded ? entry.value : entry.compiled.evaluate(values);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Number of cached expressions
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    /**
+     * Several threads evaluate random picks from a set of generated
+     * expressions through a cache smaller than the set, and compare every
+     * result with a direct compile-and-evaluate; also checks the counters
+     * add up and the size never exceeds the capacity
+     */
+    public static void crossCheck(int threads, int lookupsPerThread) throws InterruptedException {
+        ExpressionGenerator generator = new ExpressionGenerator(24, 3);
+        String[] expressions = new String[500];
+        long[] expected = new long[expressions.length];
+        long[] values = { 3, -7, 11 };
+        for (int i = 0; i < expressions.length; i++) {
+            expressions[i] = generator.next(1 + i % 12);
+            CompiledExpression compiled = CompiledExpression.compile(expressions[i]);
+            long[] ordered = new long[compiled.variables().length];
+            for (int v = 0; v < ordered.length; v++) {
+                ordered[v] = values[compiled.variables()[v].charAt(0) - 'a'];
+            }
+            expected[i] = compiled.evaluate(ordered);
+        }
+
+        ExpressionCache cache = new ExpressionCache(100);
+        java.util.concurrent.atomic.AtomicBoolean passed = new java.util.concurrent.atomic.AtomicBoolean(true);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(seed);
+                for (int i = 0; i < lookupsPerThread; i++) {
+                    int pick = random.nextInt(10) < 8 ? random.nextInt(50) : random.nextInt(expressions.length);
+                    // Spacing variations must hit the same entry
+                    String text = i % 2 == 0 ? expressions[pick] : " " + expressions[pick].replace(" ", "  ");
+                    CompiledExpression compiled = cache.compile(text);
+                    long[] ordered = new long[compiled.variables().length];
+                    for (int v = 0; v < ordered.length; v++) {
+                        ordered[v] = values[compiled.variables()[v].charAt(0) - 'a'];
+                    }
+                    if (cache.evaluate(text, ordered) != expected[pick] || cache.size() > cache.capacity()) {
+                        passed.set(false);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        boolean countersAddUp = cache.hits() + cache.misses() == 2L * threads * lookupsPerThread
+                && cache.misses() - cache.evictions() >= cache.size();
+        System.out.printf("%s (hit rate %.1f%%, %d evictions)\n", passed.get() && countersAddUp ? "PASSED" : "FAILED",
+                100 * cache.hitRate(), cache.evictions());
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        System.out.println("===== Expression Cache =====\n");
+
+        ExpressionCache cache = new ExpressionCache(2);
+        System.out.println("normalize(\" ( a+ b ) * max ( 2 , c ) \") -> \"" + normalize(" ( a+ b ) * max ( 2 , c ) ")
+                + "\""); // Expected: "(a+b)*max(2,c)"
+        System.out.println("2 ^ 10 - 24        = " + cache.evaluate("2 ^ 10 - 24")); // Miss, folded to 1000
+        System.out.println("2^10-24            = " + cache.evaluate("2^10-24")); // Hit
+        System.out.println("x * x + 1 (x = 12) = " + cache.evaluate("x * x + 1", 12)); // Miss, 145
+        System.out.println("x*x+1 (x = 5)      = " + cache.evaluate("x*x+1", 5)); // Hit, 26
+        System.out.println("y - 1 (y = 10)     = " + cache.evaluate("y - 1", 10)); // Miss, evicts 2^10-24
+        System.out.printf("hits %d, misses %d, evictions %d, size %d\n", cache.hits(), cache.misses(),
+                cache.evictions(), cache.size()); // Expected: 2, 3, 1, 2
+
+        System.out.println("\nCross-check with 4 threads, 10^5 lookups each:");
+        crossCheck(4, 100000);
+    }
+}
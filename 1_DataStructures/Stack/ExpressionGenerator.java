@@ -0,0 +1,215 @@
+/**
+ * Expression Generator
+ *
+ * Produces random infix expressions for benchmarks and cross-checks, using
+ * the standard operators of OperatorTable: + - * / % ^, unary minus, min,
+ * max and abs, over constants and variables a, b, c, ...
+ *
+ * Each expression is built as a tree and printed with only the parentheses
+ * precedence and associativity require, so parsers see expressions such as
+ * "a - b - c", "2 ^ 3 ^ b" and "-a * b" rather than fully parenthesized ones.
+ * value() evaluates the tree directly, independently of any parser.
+ *
+ * Right operands of / and % are non-zero constants and exponents are
+ * constants from 0 to 3, so evaluation never throws.
+ */
+import java.util.Random;
+
+public class ExpressionGenerator {
+    private static final char[] BINARY = { '+', '-', '*', '/', '%', '^' };
+
+    /**
+     * A node of the expression tree: a constant, a variable, a binary
+     * operator, unary minus or a function call
+     */
+    private static final class Node {
+        final char kind; // '#' constant, 'v' variable, 'n' unary minus, 'f' function, else the operator
+        final long value; // Constant value or variable index
+        final String function;
+        final Node[] children;
+
+        Node(char kind, long value, String function, Node... children) {
+            this.kind = kind;
+            this.value = value;
+            this.function = function;
+            this.children = children;
+        }
+    }
+
+    private final Random random;
+    private final int variableCount;
+    private Node last;
+
+    /**
+     * Creates a generator using variableCount variables (at most 26)
+     */
+    public ExpressionGenerator(long seed, int variableCount) {
+        if (variableCount < 0 || variableCount > 26) {
+            throw new IllegalArgumentException("variableCount must be between 0 and 26");
+        }
+        this.random = new Random(seed);
+        this.variableCount = variableCount;
+    }
+
+    /**
+     * A new random expression with the given number of operators and
+     * function calls
+     */
+    public String next(int operators) {
+        last = generate(operators);
+        StringBuilder text = new StringBuilder();
+        print(last, text);
+        return text.toString();
+    }
+
+    /**
+     * Value of the last expression returned by next, with variable i set to
+     * letterValues[i]; arithmetic wraps around like CompiledExpression's
+     */
+    public long value(long[] letterValues) {
+        return evaluate(last, letterValues);
+    }
+
+    private Node generate(int operators) {
+        if (operators == 0) {
+            if (variableCount > 0 && random.nextBoolean()) {
+                return new Node('v', random.nextInt(variableCount), null);
+            }
+            return new Node('#', random.nextInt(1000), null);
+        }
+        int choice = random.nextInt(10);
+        if (choice == 0) {
+            return new Node('n', 0, null, generate(operators - 1));
+        }
+        if (choice == 1) {
+            return new Node('f', 0, "abs", generate(operators - 1));
+        }
+        if (choice == 2 && operators >= 2) {
+            // min or max of two or three arguments
+            int arguments = operators >= 3 && random.nextBoolean() ? 3 : 2;
+            int rest = operators - (arguments - 1);
+            Node[] children = new Node[arguments];
+            for (int i = 0; i < arguments; i++) {
+                int share = i == arguments - 1 ? rest : random.nextInt(rest + 1);
+                children[i] = generate(share);
+                rest -= share;
+            }
+            return new Node('f', 0, random.nextBoolean() ? "min" : "max", children);
+        }
+
+        char operator = BINARY[random.nextInt(BINARY.length)];
+        if (operator == '/' || operator == '%') {
+            return new Node(operator, 0, null, generate(operators - 1), new Node('#', 1 + random.nextInt(99), null));
+        }
+        if (operator == '^') {
+            return new Node(operator, 0, null, generate(operators - 1), new Node('#', random.nextInt(4), null));
+        }
+        int left = random.nextInt(operators);
+        return new Node(operator, 0, null, generate(left), generate(operators - 1 - left));
+    }
+
+    private static int precedence(Node node) {
+        switch (node.kind) {
+            case '+':
+            case '-':
+                return OperatorTable.ADDITIVE;
+            case '*':
+            case '/':
+            case '%':
+                return OperatorTable.MULTIPLICATIVE;
+            case 'n':
+                return OperatorTable.PREFIX;
+            case '^':
+                return OperatorTable.POWER;
+        }
+        return Integer.MAX_VALUE; // Constants, variables and calls never need parentheses
+    }
+
+    private static void print(Node node, StringBuilder text) {
+        switch (node.kind) {
+            case '#':
+                text.append(node.value);
+                return;
+            case 'v':
+                text.append((char) ('a' + node.value));
+                return;
+            case 'n':
+                text.append('-');
+                printOperand(node.children[0], precedence(node.children[0]) < OperatorTable.PREFIX, text);
+                return;
+            case 'f':
+                text.append(node.function).append('(');
+                for (int i = 0; i < node.children.length; i++) {
+                    if (i > 0) {
+                        text.append(", ");
+                    }
+                    print(node.children[i], text);
+                }
+                text.append(')');
+                return;
+        }
+        int p = precedence(node);
+        boolean rightAssociative = node.kind == '^';
+        int left = precedence(node.children[0]);
+        int right = precedence(node.children[1]);
+        printOperand(node.children[0], left < p || left == p && rightAssociative, text);
+        text.append(' ').append(node.kind).append(' ');
+        printOperand(node.children[1], right < p || right == p && !rightAssociative, text);
+    }
+
+    private static void printOperand(Node node, boolean parenthesize, StringBuilder text) {
+        if (parenthesize) {
+            text.append('(');
+        }
+        print(node, text);
+        if (parenthesize) {
+            text.append(')');
+        }
+    }
+
+    private static long evaluate(Node node, long[] letterValues) {
+        switch (node.kind) {
+            case '#':
+                return node.value;
+            case 'v':
+                return letterValues[(int) node.value];
+            case 'n':
+                return -evaluate(node.children[0], letterValues);
+            case 'f':
+                long result = evaluate(node.children[0], letterValues);
+                if (node.function.equals("abs")) {
+                    return Math.abs(result);
+                }
+                for (int i = 1; i < node.children.length; i++) {
+                    long argument = evaluate(node.children[i], letterValues);
+                    result = node.function.equals("min") ? Math.min(result, argument) : Math.max(result, argument);
+                }
+                return result;
+        }
+        long a = evaluate(node.children[0], letterValues);
+        long b = evaluate(node.children[1], letterValues);
+        switch (node.kind) {
+            case '+':
+                return a + b;
+            case '-':
+                return a - b;
+            case '*':
+                return a * b;
+            case '/':
+                return a / b;
+            case '%':
+                return a % b;
+            default:
+                return CompiledExpression.power(a, b);
+        }
+    }
+
+    public static void main(String args[]) {
+        ExpressionGenerator generator = new ExpressionGenerator(1, 3);
+        long[] letterValues = { 2, 3, 5 };
+        for (int operators = 1; operators <= 12; operators += 3) {
+            String expression = generator.next(operators);
+            System.out.println(expression + " = " + generator.value(letterValues) + " (a=2, b=3, c=5)");
+        }
+    }
+}
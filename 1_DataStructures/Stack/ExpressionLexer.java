@@ -0,0 +1,130 @@
+/**
+ * Expression Lexer
+ *
+ * Splits an infix expression into tokens, one at a time, without building
+ * a token list:
+ * - NUMBER: a run of digits, of any length that fits in a long
+ * - NAME: a variable or function name (letters, digits, '_', starting with
+ *   a letter or '_')
+ * - OPERATOR: any other single symbol character such as + - * / % ^
+ * - LEFT_PAREN, RIGHT_PAREN, COMMA
+ * - END: no more input
+ * Whitespace between tokens is skipped.
+ *
+ * A '-' is always returned as an OPERATOR; whether it is binary minus or a
+ * negative operand depends on where it appears, which only the parser knows.
+ *
+ * Time Complexity: O(n) over the whole input
+ */
+public class ExpressionLexer {
+    public static final int END = 0;
+    public static final int NUMBER = 1;
+    public static final int NAME = 2;
+    public static final int OPERATOR = 3;
+    public static final int LEFT_PAREN = 4;
+    public static final int RIGHT_PAREN = 5;
+    public static final int COMMA = 6;
+
+    private final String input;
+    private int position; // Index of the next character to read
+    private int tokenStart; // Index of the current token's first character
+
+    private int type = END;
+    private long number; // Value of the current NUMBER token
+    private char operator; // Symbol of the current OPERATOR token
+
+    public ExpressionLexer(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Advances to the next token and returns its type
+     *
+     * @throws IllegalArgumentException if a number does not fit in a long
+     */
+    public int next() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        tokenStart = position;
+        if (position == input.length()) {
+            return type = END;
+        }
+
+        char c = input.charAt(position);
+        if (c >= '0' && c <= '9') {
+            long value = 0;
+            while (position < input.length() && input.charAt(position) >= '0' && input.charAt(position) <= '9') {
+                int digit = input.charAt(position++) - '0';
+                if (value > (Long.MAX_VALUE - digit) / 10) {
+                    throw error("Number too large");
+                }
+                value = value * 10 + digit;
+            }
+            number = value;
+            return type = NUMBER;
+        }
+        if (Character.isLetter(c) || c == '_') {
+            while (position < input.length()
+                    && (Character.isLetterOrDigit(input.charAt(position)) || input.charAt(position) == '_')) {
+                position++;
+            }
+            return type = NAME;
+        }
+
+        position++;
+        switch (c) {
+            case '(':
+                return type = LEFT_PAREN;
+            case ')':
+                return type = RIGHT_PAREN;
+            case ',':
+                return type = COMMA;
+            default:
+                operator = c;
+                return type = OPERATOR;
+        }
+    }
+
+    /**
+     * Type of the current token
+     */
+    public int type() {
+        return type;
+    }
+
+    /**
+     * Value of the current NUMBER token
+     */
+    public long number() {
+        return number;
+    }
+
+    /**
+     * Text of the current NAME token
+     */
+    public String name() {
+        return input.substring(tokenStart, position);
+    }
+
+    /**
+     * Symbol of the current OPERATOR token
+     */
+    public char operator() {
+        return operator;
+    }
+
+    /**
+     * Index in the input where the current token starts
+     */
+    public int tokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * An exception that points at the current token
+     */
+    public IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + tokenStart + " in \"" + input + "\"");
+    }
+}
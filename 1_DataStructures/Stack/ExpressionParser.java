@@ -0,0 +1,215 @@
+/**
+ * Expression Parser
+ *
+ * Compiles infix expressions into CompiledExpression bytecode in a single
+ * pass, by precedence climbing (a Pratt parser) over an OperatorTable:
+ *
+ *   expression(minPrecedence):
+ *     parse one operand (number, variable, (expression), function call, or a
+ *     prefix operator followed by expression(its precedence))
+ *     while the next token is a binary operator binding at least minPrecedence:
+ *       parse its right operand with expression(precedence + 1), or
+ *       expression(precedence) if it is right associative, then emit it
+ *
+ * Instructions come out in postfix order as the operands are completed, so
+ * there is no operator stack and no postfix String; the call stack does the
+ * work of StackApplications.infixToPostfix's Stack<Character>. Nesting depth
+ * is limited by the thread's stack size (several thousand levels of
+ * parentheses with the default).
+ *
+ * min and max take any number of arguments and are emitted as a chain of
+ * two-operand instructions after each argument: min(a, b, c) is
+ * "a b min c min".
+ *
+ * Time Complexity: O(n) in the length of the expression
+ */
+public class ExpressionParser {
+    private final ExpressionLexer lexer;
+    private final OperatorTable table;
+    private final CompiledExpression.Builder out = new CompiledExpression.Builder();
+
+    private ExpressionParser(String source, OperatorTable table) {
+        this.lexer = new ExpressionLexer(source);
+        this.table = table;
+    }
+
+    /**
+     * Compiles an infix expression with the operators and functions of a table
+     *
+     * @throws IllegalArgumentException if the expression is malformed; the
+     *         message gives the position
+     * Time Complexity: O(n)
+     */
+    public static CompiledExpression parse(String source, OperatorTable table) {
+        ExpressionParser parser = new ExpressionParser(source, table);
+        parser.lexer.next();
+        parser.expression(0);
+        if (parser.lexer.type() != ExpressionLexer.END) {
+            throw parser.unexpected();
+        }
+        return parser.out.build(source);
+    }
+
+    private void expression(int minPrecedence) {
+        operand();
+        while (lexer.type() == ExpressionLexer.OPERATOR) {
+            char symbol = lexer.operator();
+            OperatorTable.Entry operator = table.binary(symbol);
+            if (operator == null) {
+                throw lexer.error("Unknown operator '" + symbol + "'");
+            }
+            if (operator.precedence < minPrecedence) {
+                return; // Belongs to an enclosing expression
+            }
+            lexer.next();
+            expression(operator.rightAssociative ? operator.precedence : operator.precedence + 1);
+            emit(operator, String.valueOf(symbol));
+        }
+    }
+
+    private void operand() {
+        switch (lexer.type()) {
+            case ExpressionLexer.NUMBER:
+                out.constant(lexer.number());
+                lexer.next();
+                return;
+
+            case ExpressionLexer.NAME:
+                String name = lexer.name();
+                if (lexer.next() == ExpressionLexer.LEFT_PAREN) {
+                    call(name);
+                } else {
+                    out.load(name);
+                }
+                return;
+
+            case ExpressionLexer.LEFT_PAREN:
+                lexer.next();
+                expression(0);
+                expectRightParen();
+                return;
+
+            case ExpressionLexer.OPERATOR:
+                char symbol = lexer.operator();
+                OperatorTable.Entry operator = table.prefix(symbol);
+                if (operator == null) {
+                    throw lexer.error(table.binary(symbol) != null ? "Missing operand"
+                            : "Unknown operator '" + symbol + "'");
+                }
+                lexer.next();
+                expression(operator.precedence);
+                emit(operator, String.valueOf(symbol));
+                return;
+
+            default:
+                throw lexer.error("Missing operand");
+        }
+    }
+
+    // The lexer is on the '(' after a function name
+    private void call(String name) {
+        OperatorTable.Entry function = table.function(name);
+        if (function == null) {
+            throw lexer.error("Unknown function '" + name + "'");
+        }
+        lexer.next();
+        expression(0);
+        int arguments = 1;
+        while (lexer.type() == ExpressionLexer.COMMA) {
+            if (arguments >= 2 && function.maxArguments > 2) {
+                emit(function, name); // Combine the arguments so far of a variadic function
+            }
+            lexer.next();
+            expression(0);
+            arguments++;
+        }
+        if (arguments < function.minArguments || arguments > function.maxArguments) {
+            throw lexer.error(name + " takes " + (function.minArguments == function.maxArguments
+                    ? String.valueOf(function.minArguments) : "at least " + function.minArguments)
+                    + " argument(s), got " + arguments);
+        }
+        expectRightParen();
+        emit(function, name);
+    }
+
+    private void expectRightParen() {
+        if (lexer.type() != ExpressionLexer.RIGHT_PAREN) {
+            throw lexer.type() == ExpressionLexer.END ? lexer.error("Unmatched (") : unexpected();
+        }
+        lexer.next();
+    }
+
+    private void emit(OperatorTable.Entry entry, String name) {
+        if (entry.opcode >= 0) {
+            out.operator(entry.opcode, entry.minArguments == 1 ? 1 : 2);
+        } else if (entry.unary != null) {
+            out.call(name, entry.unary);
+        } else if (entry.binary != null) {
+            out.call(name, entry.binary);
+        } // else OperatorTable.NONE: nothing to emit
+    }
+
+    // An error for a token that cannot follow a complete operand
+    private IllegalArgumentException unexpected() {
+        switch (lexer.type()) {
+            case ExpressionLexer.RIGHT_PAREN:
+                return lexer.error("Unmatched )");
+            case ExpressionLexer.NUMBER:
+            case ExpressionLexer.NAME:
+            case ExpressionLexer.LEFT_PAREN:
+                return lexer.error("Missing operator");
+            default:
+                return lexer.error("Unexpected token");
+        }
+    }
+
+    /**
+     * Parses expressions from ExpressionGenerator and compares their values
+     * with the generator's own evaluation, which follows the standard
+     * precedence and associativity rules independently of this parser
+     */
+    public static void crossCheck(int count) {
+        ExpressionGenerator generator = new ExpressionGenerator(21, 4);
+        long[] letterValues = { 7, -3, 12, 1000003 };
+        OperatorTable standard = OperatorTable.standard();
+
+        boolean passed = true;
+        for (int i = 0; i < count; i++) {
+            String expression = generator.next(1 + i % 30);
+            CompiledExpression compiled = parse(expression, standard);
+            String[] names = compiled.variables();
+            long[] values = new long[names.length];
+            for (int v = 0; v < names.length; v++) {
+                values[v] = letterValues[names[v].charAt(0) - 'a'];
+            }
+            if (compiled.evaluate(values) != generator.value(letterValues)) {
+                System.out.println("Mismatch: " + expression);
+                passed = false;
+            }
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Expression Parser =====\n");
+
+        // Standard operators plus a registered bitwise-and below + and a gcd function
+        OperatorTable table = OperatorTable.standard()
+                .registerBinary('&', 5, false, (a, b) -> a & b)
+                .registerFunction("gcd", (long a, long b) -> java.math.BigInteger.valueOf(a)
+                        .gcd(java.math.BigInteger.valueOf(b)).longValue());
+
+        String[] expressions = { "2 ^ 3 ^ 2", "-2 ^ 2", "(-2) ^ 2", "2 - 3 - 4", "min(4, -x, 2) * abs(x - 9)",
+                "x + 1 & 6", "gcd(x * 4, 18) + +1" };
+        for (String expression : expressions) {
+            CompiledExpression compiled = parse(expression, table);
+            long[] values = new long[compiled.variables().length];
+            java.util.Arrays.fill(values, 5); // x = 5
+            System.out.printf("%-28s-> %-32s= %d\n", expression, compiled, compiled.evaluate(values));
+        }
+        // Expected results: 512, -4, 4, -5, -20, 6, 3
+
+        System.out.println("\nCross-check on 10^5 generated expressions:");
+        crossCheck(100000);
+    }
+}
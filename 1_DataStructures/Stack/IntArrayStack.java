@@ -0,0 +1,201 @@
+/**
+ * Stack implementation using a growable int array
+ *
+ * Unlike the ArrayList-based stacks, values are stored directly in an int[],
+ * so push and pop never box an int into an Integer and never allocate
+ * (except when the array has to grow or shrink).
+ *
+ * Growth and shrink behaviour is configurable:
+ * - growthFactor: the array grows to capacity * growthFactor when full
+ * - shrinkThreshold: when size drops below capacity * shrinkThreshold the array
+ *   is halved (never below the initial capacity); 0 disables shrinking
+ *
+ * Time Complexity:
+ * - Push: O(1) amortized
+ * - Pop: O(1) amortized
+ * - Peek: O(1)
+ * - isEmpty: O(1)
+ * - size: O(1)
+ * - pushAll / popInto: O(k) for k values
+ */
+import java.util.Arrays;
+
+public class IntArrayStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements; // elements[0..size) hold the stack, top at size - 1
+    private int size;
+    private final int initialCapacity;
+    private final double growthFactor;
+    private final double shrinkThreshold;
+
+    /**
+     * Creates a stack that doubles when full and never shrinks
+     */
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY, 2.0, 0.0);
+    }
+
+    public IntArrayStack(int initialCapacity, double growthFactor, double shrinkThreshold) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be at least 1");
+        }
+        if (growthFactor <= 1.0) {
+            throw new IllegalArgumentException("growthFactor must be greater than 1");
+        }
+        if (shrinkThreshold < 0.0 || shrinkThreshold >= 0.5) {
+            throw new IllegalArgumentException("shrinkThreshold must be in [0, 0.5)");
+        }
+        this.elements = new int[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    /**
+     * Makes room for at least minCapacity elements
+     * Time Complexity: O(n) when the array is copied
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) (elements.length * growthFactor) + 1);
+            elements = Arrays.copyOf(elements, Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    /**
+     * Halves the array while it is mostly empty
+     * Time Complexity: O(n) when the array is copied
+     */
+    private void maybeShrink() {
+        if (shrinkThreshold > 0 && elements.length > initialCapacity
+                && size < elements.length * shrinkThreshold) {
+            elements = Arrays.copyOf(elements, Math.max(initialCapacity, elements.length / 2));
+        }
+    }
+
+    /**
+     * Adds an element to the top of the stack
+     * Time Complexity: O(1) amortized
+     */
+    public void push(int data) {
+        if (size == elements.length) {
+            ensureCapacity(size + 1);
+        }
+        elements[size++] = data;
+    }
+
+    /**
+     * Pushes all values in order, so the last value ends up on top
+     * Time Complexity: O(k)
+     */
+    public void pushAll(int[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes and returns the top element from the stack
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1) amortized
+     */
+    public int pop() {
+        if (size == 0) {
+            System.out.println("Stack Underflow");
+            return -1;
+        }
+        int topElement = elements[--size];
+        maybeShrink();
+        return topElement;
+    }
+
+    /**
+     * Pops up to dst.length values into dst, top of the stack first
+     *
+     * @return the number of values popped
+     * Time Complexity: O(k)
+     */
+    public int popInto(int[] dst) {
+        int count = Math.min(dst.length, size);
+        for (int i = 0; i < count; i++) {
+            dst[i] = elements[size - 1 - i];
+        }
+        size -= count;
+        maybeShrink();
+        return count;
+    }
+
+    /**
+     * Returns the top element without removing it
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1)
+     */
+    public int peek() {
+        if (size == 0) {
+            System.out.println("Stack is Empty");
+            return -1;
+        }
+        return elements[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Current length of the backing array
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Displays all elements in the stack from top to bottom
+     * Time Complexity: O(n)
+     */
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Stack is Empty");
+            return;
+        }
+
+        System.out.print("Stack (Top to Bottom): ");
+        for (int i = size - 1; i >= 0; i--) {
+            System.out.print(elements[i]);
+            if (i > 0) {
+                System.out.print(" -> ");
+            }
+        }
+        System.out.println();
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Stack Implementation using int[] =====\n");
+
+        IntArrayStack stack = new IntArrayStack(4, 2.0, 0.25);
+        stack.push(1);
+        stack.push(2);
+        stack.pushAll(new int[] { 3, 4, 5 });
+        stack.display(); // Expected: 5 -> 4 -> 3 -> 2 -> 1
+        System.out.println("Size: " + stack.size() + ", capacity: " + stack.capacity()); // Expected: 5, 9
+
+        int[] popped = new int[3];
+        int count = stack.popInto(popped);
+        System.out.println("Popped " + count + ": " + Arrays.toString(popped)); // Expected: 3: [5, 4, 3]
+        System.out.println("Top element: " + stack.peek()); // Expected: 2
+
+        stack.pop();
+        stack.pop();
+        System.out.println("Capacity after draining: " + stack.capacity()); // Expected: 4 (shrunk back)
+
+        System.out.println("\nTrying to pop from empty stack:");
+        stack.pop();
+    }
+}
@@ -0,0 +1,388 @@
+/**
+ * Queue of ints on a power-of-two ring buffer
+ *
+ * Same push/pop/peek/empty API as StackPracticeProblems.MyQueue, but values
+ * live in one int[] whose length is a power of two. head and tail only ever
+ * increase; the slot of index i is i & mask, so wrapping around costs a
+ * single AND instead of a division or a branch. Nothing is boxed, nothing is
+ * moved between stacks, and nothing is synchronized. The array doubles when
+ * full.
+ *
+ * Batch operations copy whole runs with System.arraycopy (at most two per
+ * call, one on each side of the wrap-around point):
+ * - offerAll(src): appends every value of src
+ * - drainTo(dst, max): removes up to max values into dst
+ *
+ * IntRingQueue.Spsc is a fixed-capacity variant that one producer thread and
+ * one consumer thread may use at the same time without locks.
+ *
+ * Time Complexity:
+ * - push: O(1) amortized
+ * - pop: O(1)
+ * - peek: O(1)
+ * - empty: O(1)
+ * - offerAll / drainTo: O(k) for k values
+ */
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+public class IntRingQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int mask; // elements.length - 1
+    private long head; // Index of the oldest value
+    private long tail; // Index after the newest value
+
+    public IntRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a queue that holds at least initialCapacity values before growing
+     */
+    public IntRingQueue(int initialCapacity) {
+        elements = new int[powerOfTwoAtLeast(initialCapacity)];
+        mask = elements.length - 1;
+    }
+
+    static int powerOfTwoAtLeast(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in [1, 2^30]");
+        }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Copies the values into an array at least twice as long, oldest first
+     * Time Complexity: O(n)
+     */
+    private void grow(int minCapacity) {
+        int size = size();
+        int[] larger = new int[powerOfTwoAtLeast(Math.max(minCapacity, elements.length * 2))];
+        copyOut(elements, head, larger, 0, size);
+        elements = larger;
+        mask = larger.length - 1;
+        head = 0;
+        tail = size;
+    }
+
+    /**
+     * Copies count values starting at ring index from into dst[offset..]
+     */
+    private static void copyOut(int[] ring, long from, int[] dst, int offset, int count) {
+        int start = (int) (from & (ring.length - 1));
+        int firstRun = Math.min(count, ring.length - start);
+        System.arraycopy(ring, start, dst, offset, firstRun);
+        System.arraycopy(ring, 0, dst, offset + firstRun, count - firstRun);
+    }
+
+    /**
+     * Copies count values from src[offset..] into the ring starting at index to
+     */
+    private static void copyIn(int[] src, int offset, int[] ring, long to, int count) {
+        int start = (int) (to & (ring.length - 1));
+        int firstRun = Math.min(count, ring.length - start);
+        System.arraycopy(src, offset, ring, start, firstRun);
+        System.arraycopy(src, offset + firstRun, ring, 0, count - firstRun);
+    }
+
+    /**
+     * Push element x to the back of queue
+     * Time Complexity: O(1) amortized
+     */
+    public void push(int x) {
+        if (tail - head == elements.length) {
+            grow(elements.length + 1);
+        }
+        elements[(int) (tail++ & mask)] = x;
+    }
+
+    /**
+     * Appends every value of src, in order
+     * Time Complexity: O(k)
+     */
+    public void offerAll(int[] src) {
+        if (size() + src.length > elements.length) {
+            grow(size() + src.length);
+        }
+        copyIn(src, 0, elements, tail, src.length);
+        tail += src.length;
+    }
+
+    /**
+     * Removes the element from the front of queue and returns it
+     * Time Complexity: O(1)
+     */
+    public int pop() {
+        if (head == tail) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elements[(int) (head++ & mask)];
+    }
+
+    /**
+     * Removes up to max values, oldest first, into dst[0..]
+     *
+     * @return the number of values removed
+     * Time Complexity: O(k)
+     */
+    public int drainTo(int[] dst, int max) {
+        int count = (int) Math.min(Math.min(max, dst.length), tail - head);
+        copyOut(elements, head, dst, 0, count);
+        head += count;
+        return count;
+    }
+
+    /**
+     * Get the front element
+     * Time Complexity: O(1)
+     */
+    public int peek() {
+        if (head == tail) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elements[(int) (head & mask)];
+    }
+
+    /**
+     * Returns whether the queue is empty
+     * Time Complexity: O(1)
+     */
+    public boolean empty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Single-producer/single-consumer ring queue
+     *
+     * Fixed capacity; exactly one thread may push/offer and exactly one other
+     * thread may pop/poll/drain at the same time. There are no locks and no
+     * CAS: each index has a single writer.
+     *
+     * - The producer writes the value into its slot, then publishes the new
+     *   tail with lazySet (an ordered, release store). A consumer that reads
+     *   that tail is guaranteed to see the value, and anything else the
+     *   producer wrote before it.
+     * - The consumer reads the value, then releases the slot by publishing the
+     *   new head with lazySet.
+     * - Each side keeps a cached copy of the other side's index and only
+     *   re-reads the shared one when the cache says full (or empty), which
+     *   keeps most operations from reading the other thread's volatile field.
+     */
+    static final class Spsc {
+        private static final AtomicLongFieldUpdater<Spsc> HEAD = AtomicLongFieldUpdater.newUpdater(Spsc.class,
+                "head");
+        private static final AtomicLongFieldUpdater<Spsc> TAIL = AtomicLongFieldUpdater.newUpdater(Spsc.class,
+                "tail");
+
+        private final int[] elements;
+        private final int mask;
+
+        private volatile long head; // Written by the consumer only
+        private long cachedTail; // Consumer's last view of tail
+
+        private volatile long tail; // Written by the producer only
+        private long cachedHead; // Producer's last view of head
+
+        Spsc(int capacity) {
+            elements = new int[powerOfTwoAtLeast(capacity)];
+            mask = elements.length - 1;
+        }
+
+        /**
+         * Adds x if there is room (producer thread only)
+         *
+         * @return false if the queue is full
+         * Time Complexity: O(1)
+         */
+        public boolean offer(int x) {
+            long t = tail;
+            if (t - cachedHead == elements.length) {
+                cachedHead = head;
+                if (t - cachedHead == elements.length) {
+                    return false;
+                }
+            }
+            elements[(int) (t & mask)] = x;
+            TAIL.lazySet(this, t + 1);
+            return true;
+        }
+
+        /**
+         * Adds x, spinning while the queue is full (producer thread only)
+         * Time Complexity: O(1) once there is room
+         */
+        public void push(int x) {
+            while (!offer(x)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * Appends as many values of src as fit (producer thread only)
+         *
+         * @return the number of values appended
+         * Time Complexity: O(k)
+         */
+        public int offerAll(int[] src) {
+            long t = tail;
+            cachedHead = head;
+            int count = (int) Math.min(src.length, elements.length - (t - cachedHead));
+            copyIn(src, 0, elements, t, count);
+            TAIL.lazySet(this, t + count);
+            return count;
+        }
+
+        /**
+         * Removes and returns the oldest value (consumer thread only)
+         * Time Complexity: O(1)
+         */
+        public int pop() {
+            long h = head;
+            if (h == cachedTail) {
+                cachedTail = tail;
+                if (h == cachedTail) {
+                    throw new RuntimeException("Queue is empty");
+                }
+            }
+            int value = elements[(int) (h & mask)];
+            HEAD.lazySet(this, h + 1);
+            return value;
+        }
+
+        /**
+         * Removes up to max values, oldest first, into dst[0..] (consumer
+         * thread only)
+         *
+         * @return the number of values removed
+         * Time Complexity: O(k)
+         */
+        public int drainTo(int[] dst, int max) {
+            long h = head;
+            cachedTail = tail;
+            int count = (int) Math.min(Math.min(max, dst.length), cachedTail - h);
+            copyOut(elements, h, dst, 0, count);
+            HEAD.lazySet(this, h + count);
+            return count;
+        }
+
+        /**
+         * Get the front element (consumer thread only)
+         * Time Complexity: O(1)
+         */
+        public int peek() {
+            long h = head;
+            if (h == cachedTail) {
+                cachedTail = tail;
+                if (h == cachedTail) {
+                    throw new RuntimeException("Queue is empty");
+                }
+            }
+            return elements[(int) (h & mask)];
+        }
+
+        /**
+         * Returns whether the queue is empty. Exact on the consumer thread; a
+         * snapshot anywhere else.
+         */
+        public boolean empty() {
+            return head == tail;
+        }
+
+        public int size() {
+            return (int) (tail - head);
+        }
+
+        public int capacity() {
+            return elements.length;
+        }
+    }
+
+    /**
+     * One producer sends 0..count-1, in single values and in batches, while
+     * one consumer pops and drains; checks that every value arrives once and
+     * in order
+     */
+    public static void spscStressTest(int count) throws InterruptedException {
+        System.out.println("\n===== SPSC Stress Test (" + count + " values) =====\n");
+
+        Spsc queue = new Spsc(1024);
+        Thread producer = new Thread(() -> {
+            int[] batch = new int[100];
+            int next = 0;
+            while (next < count) {
+                if (next % 1000 == 0 && count - next >= batch.length) {
+                    for (int i = 0; i < batch.length; i++) {
+                        batch[i] = next + i;
+                    }
+                    int sent = 0;
+                    while (sent < batch.length) {
+                        sent += queue.offerAll(Arrays.copyOfRange(batch, sent, batch.length));
+                        Thread.yield();
+                    }
+                    next += batch.length;
+                } else if (queue.offer(next)) {
+                    next++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+
+        int[] errors = new int[1];
+        Thread consumer = new Thread(() -> {
+            int[] buffer = new int[64];
+            int expected = 0;
+            while (expected < count) {
+                if (queue.empty()) {
+                    Thread.yield();
+                } else if (expected % 2 == 0) {
+                    int drained = queue.drainTo(buffer, buffer.length);
+                    for (int i = 0; i < drained; i++) {
+                        if (buffer[i] != expected++) {
+                            errors[0]++;
+                        }
+                    }
+                } else if (queue.pop() != expected++) {
+                    errors[0]++;
+                }
+            }
+        });
+
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        System.out.println("Out-of-order or lost values: " + errors[0]);
+        System.out.println(errors[0] == 0 && queue.empty() ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        System.out.println("===== Ring-buffer Int Queue =====\n");
+
+        IntRingQueue queue = new IntRingQueue(4);
+        queue.push(1);
+        queue.push(2);
+        queue.push(3);
+        System.out.println("peek() -> " + queue.peek()); // Expected: 1
+        System.out.println("pop() -> " + queue.pop()); // Expected: 1
+        queue.pop(); // The front is now at index 2 of 4
+        queue.offerAll(new int[] { 4, 5, 6 }); // Fills indices 3, 0, 1: wraps around without growing
+        int[] drained = new int[8];
+        int count = queue.drainTo(drained, 4); // Reads indices 2, 3, 0, 1: also wraps around
+        System.out.println("drainTo(4) -> " + Arrays.toString(Arrays.copyOf(drained, count))); // Expected: [3, 4, 5, 6]
+        queue.offerAll(new int[] { 7, 8, 9, 10, 11 }); // Five values do not fit in 4: grows to 8 first
+        System.out.println("size() -> " + queue.size()); // Expected: 5
+        count = queue.drainTo(drained, 8);
+        System.out.println("drainTo(8) -> " + Arrays.toString(Arrays.copyOf(drained, count)));
+        // Expected: [7, 8, 9, 10, 11]
+        System.out.println("empty() -> " + queue.empty()); // Expected: true
+
+        spscStressTest(2000000);
+    }
+}
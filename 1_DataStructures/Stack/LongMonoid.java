@@ -0,0 +1,86 @@
+/**
+ * Long Monoid
+ *
+ * An associative combine operation with an identity element, over long
+ * values. SlidingWindowAggregator uses it to fold a window of values; the
+ * operation does not have to be commutative, since the window is always
+ * combined oldest to newest.
+ */
+public interface LongMonoid {
+    /**
+     * Minimum; the identity is Long.MAX_VALUE
+     */
+    LongMonoid MIN = new LongMonoid() {
+        @Override
+        public long identity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return Math.min(a, b);
+        }
+    };
+
+    /**
+     * Maximum; the identity is Long.MIN_VALUE
+     */
+    LongMonoid MAX = new LongMonoid() {
+        @Override
+        public long identity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return Math.max(a, b);
+        }
+    };
+
+    /**
+     * Sum (wraps around on overflow like + does)
+     */
+    LongMonoid SUM = new LongMonoid() {
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            return a + b;
+        }
+    };
+
+    /**
+     * Greatest common divisor of the absolute values; the identity is 0
+     */
+    LongMonoid GCD = new LongMonoid() {
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public long combine(long a, long b) {
+            a = Math.abs(a);
+            b = Math.abs(b);
+            while (b != 0) {
+                long t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    };
+
+    /**
+     * The value x for which combine(x, v) == combine(v, x) == v
+     */
+    long identity();
+
+    /**
+     * Combines two values; must be associative
+     */
+    long combine(long a, long b);
+}
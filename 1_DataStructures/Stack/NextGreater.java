@@ -0,0 +1,268 @@
+/**
+ * Next Greater Element / Daily Temperatures on primitive arrays
+ *
+ * StackPracticeProblems.nextGreaterElement and dailyTemperatures keep their
+ * monotonic stack in a java.util.Stack<Integer>: every push boxes an index
+ * and every operation takes the Vector's lock. Both problems only need, for
+ * every index i, the first index j > i with a[j] > a[i]. This class computes
+ * that once with an int[] stack and derives both answers from it.
+ *
+ * Parallel variant:
+ * 1. Split the array into chunks and solve each chunk on its own, in
+ *    parallel. Indices still on a chunk's stack at its end are unresolved;
+ *    their values are non-increasing from bottom to top. Each chunk also
+ *    records its prefix maxima (every index greater than all before it in
+ *    the chunk); the first value greater than v in a chunk is always one of
+ *    them.
+ * 2. Merge, left to right: carry the unresolved indices of earlier chunks on
+ *    one stack. For each chunk, pop carried indices while the chunk has a
+ *    larger value, answering each with the first larger prefix maximum (the
+ *    popped values only grow, so that search only moves forward), then push
+ *    the chunk's own unresolved indices.
+ * 3. Convert next-greater indices into the requested answer, in parallel.
+ *
+ * The merge touches only unresolved indices and prefix maxima, usually a
+ * tiny fraction of the input; a strictly decreasing array is the worst
+ * case, where every index stays unresolved.
+ *
+ * Time Complexity: O(n) work; the parallel merge is O(u + p) for u
+ * unresolved indices and p prefix maxima
+ * Space Complexity: O(n)
+ */
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class NextGreater {
+    private static final int MIN_CHUNK_SIZE = 1 << 16; // Smaller chunks are not worth a task
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * For every index, the index of the next strictly greater element, or -1
+     * Time Complexity: O(n)
+     */
+    public static int[] nextGreaterIndex(int[] a) {
+        int[] next = new int[a.length];
+        int[] stack = new int[a.length];
+        int top = solveChunk(a, 0, a.length, next, stack);
+        for (int i = 0; i < top; i++) {
+            next[stack[i]] = -1;
+        }
+        return next;
+    }
+
+    /**
+     * Resolves next-greater indices inside a[lo..hi) with a monotonic stack
+     * stored in stack[0..]
+     *
+     * @return the number of unresolved indices left in stack[0..top)
+     */
+    private static int solveChunk(int[] a, int lo, int hi, int[] next, int[] stack) {
+        int top = 0;
+        int topValue = Integer.MAX_VALUE; // a[stack[top - 1]], kept in a register
+        for (int i = lo; i < hi; i++) {
+            int value = a[i];
+            while (value > topValue) {
+                next[stack[--top]] = i;
+                topValue = top > 0 ? a[stack[top - 1]] : Integer.MAX_VALUE;
+            }
+            stack[top++] = i;
+            topValue = value;
+        }
+        return top;
+    }
+
+    /**
+     * Same result as nextGreaterIndex, computed with the chunk-and-merge
+     * scheme on the given pool
+     */
+    public static int[] nextGreaterIndexParallel(int[] a, ForkJoinPool pool) {
+        int n = a.length;
+        int chunkCount = Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, n / MIN_CHUNK_SIZE));
+        int[] bounds = new int[chunkCount + 1];
+        for (int c = 0; c <= chunkCount; c++) {
+            bounds[c] = (int) ((long) n * c / chunkCount);
+        }
+
+        // Step 1: Solve chunks independently
+        int[] next = new int[n];
+        int[][] unresolved = new int[chunkCount][];
+        int[][] prefixMaxima = new int[chunkCount][];
+        pool.invoke(new ChunkTask(0, chunkCount, c -> {
+            int lo = bounds[c];
+            int hi = bounds[c + 1];
+            int[] stack = new int[hi - lo];
+            int top = solveChunk(a, lo, hi, next, stack);
+            unresolved[c] = Arrays.copyOf(stack, top);
+
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                if (count == 0 || a[i] > a[stack[count - 1]]) {
+                    stack[count++] = i; // stack is free again; reuse it
+                }
+            }
+            prefixMaxima[c] = Arrays.copyOf(stack, count);
+        }));
+
+        // Step 2: Resolve indices across chunk boundaries
+        IntArrayStack carry = new IntArrayStack();
+        for (int c = 0; c < chunkCount; c++) {
+            int[] maxima = prefixMaxima[c];
+            int r = 0;
+            while (!carry.isEmpty()) {
+                int value = a[carry.peek()];
+                while (r < maxima.length && a[maxima[r]] <= value) {
+                    r++;
+                }
+                if (r == maxima.length) {
+                    break; // Nothing in this chunk is larger; deeper entries are even larger
+                }
+                next[carry.pop()] = maxima[r];
+            }
+            carry.pushAll(unresolved[c]);
+        }
+        while (!carry.isEmpty()) {
+            next[carry.pop()] = -1;
+        }
+        return next;
+    }
+
+    /**
+     * Runs body(c) for every chunk c in [lo, hi), splitting the range in half
+     * until one chunk is left
+     */
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo, hi;
+        private final IntConsumer body;
+
+        ChunkTask(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            ChunkTask left = new ChunkTask(lo, mid, body);
+            left.fork();
+            new ChunkTask(mid, hi, body).compute();
+            left.join();
+        }
+    }
+
+    /**
+     * Rewrites next-greater indices in place as days to wait (0 if none)
+     */
+    private static void toDaysToWait(int[] next, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            next[i] = next[i] < 0 ? 0 : next[i] - i;
+        }
+    }
+
+    /**
+     * Rewrites next-greater indices in place as next greater values (-1 if none)
+     */
+    private static void toNextValues(int[] a, int[] next, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            next[i] = next[i] < 0 ? -1 : a[next[i]];
+        }
+    }
+
+    /**
+     * Same result as StackPracticeProblems.nextGreaterElement
+     * Time Complexity: O(n)
+     */
+    public static int[] nextGreaterElement(int[] nums) {
+        int[] next = nextGreaterIndex(nums);
+        toNextValues(nums, next, 0, nums.length);
+        return next;
+    }
+
+    /**
+     * Same result as StackPracticeProblems.dailyTemperatures
+     * Time Complexity: O(n)
+     */
+    public static int[] dailyTemperatures(int[] temperatures) {
+        int[] next = nextGreaterIndex(temperatures);
+        toDaysToWait(next, 0, next.length);
+        return next;
+    }
+
+    /**
+     * nextGreaterElement, computed in parallel on the given pool
+     */
+    public static int[] nextGreaterElement(int[] nums, ForkJoinPool pool) {
+        int[] next = nextGreaterIndexParallel(nums, pool);
+        convertInParallel(next, pool, (lo, hi) -> toNextValues(nums, next, lo, hi));
+        return next;
+    }
+
+    /**
+     * dailyTemperatures, computed in parallel on the given pool
+     */
+    public static int[] dailyTemperatures(int[] temperatures, ForkJoinPool pool) {
+        int[] next = nextGreaterIndexParallel(temperatures, pool);
+        convertInParallel(next, pool, (lo, hi) -> toDaysToWait(next, lo, hi));
+        return next;
+    }
+
+    private interface RangeBody {
+        void run(int lo, int hi);
+    }
+
+    // Step 3: Convert the answer chunk by chunk
+    private static void convertInParallel(int[] next, ForkJoinPool pool, RangeBody body) {
+        int n = next.length;
+        int chunkCount = Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, n / MIN_CHUNK_SIZE));
+        pool.invoke(new ChunkTask(0, chunkCount,
+                c -> body.run((int) ((long) n * c / chunkCount), (int) ((long) n * (c + 1) / chunkCount))));
+    }
+
+    /**
+     * Compares the sequential, parallel and StackPracticeProblems results on
+     * random, increasing, decreasing and plateau inputs
+     */
+    public static void crossCheck(int n, ForkJoinPool pool) {
+        java.util.Random random = new java.util.Random(5);
+        int[][] inputs = { random.ints(n, 30, 110).toArray(), new int[n], new int[n], new int[n] };
+        for (int i = 0; i < n; i++) {
+            inputs[1][i] = i;
+            inputs[2][i] = n - i;
+            inputs[3][i] = i / 1000 % 7; // Runs of equal values across chunk borders
+        }
+
+        boolean passed = true;
+        for (int[] input : inputs) {
+            int[] expected = StackPracticeProblems.dailyTemperatures(input);
+            passed &= Arrays.equals(expected, dailyTemperatures(input));
+            passed &= Arrays.equals(expected, dailyTemperatures(input, pool));
+            int[] expectedValues = StackPracticeProblems.nextGreaterElement(input);
+            passed &= Arrays.equals(expectedValues, nextGreaterElement(input));
+            passed &= Arrays.equals(expectedValues, nextGreaterElement(input, pool));
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Next Greater Element / Daily Temperatures =====\n");
+
+        int[] temperatures = { 73, 74, 75, 71, 69, 72, 76, 73 };
+        System.out.println("dailyTemperatures -> " + Arrays.toString(dailyTemperatures(temperatures)));
+        // Expected: [1, 1, 4, 2, 1, 1, 0, 0]
+        System.out.println("nextGreaterElement -> " + Arrays.toString(nextGreaterElement(new int[] { 4, 5, 2, 25 })));
+        // Expected: [5, 25, 25, -1]
+
+        System.out.println("\nCross-check on 10^6 values (4 threads, chunks of " + MIN_CHUNK_SIZE + "):");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        crossCheck(1000000, pool);
+        pool.shutdown();
+    }
+}
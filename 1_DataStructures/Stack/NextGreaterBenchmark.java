@@ -0,0 +1,94 @@
+/**
+ * Next Greater Element Benchmarks
+ *
+ * Daily Temperatures with StackPracticeProblems, NextGreater (sequential and
+ * parallel) and StreamingNextGreater. Timing and allocation come from
+ * StackBenchmark.measure.
+ */
+public class NextGreaterBenchmark {
+    // Prevents the JIT from removing work whose result is never used
+    private static long sink;
+
+    /**
+     * dailyTemperatures on n random readings: StackPracticeProblems
+     * (Stack<Integer>), NextGreater with an int[] stack, and NextGreater's
+     * chunked parallel version on pools of 1, 2, 4 and 8 threads, with each
+     * pool's speedup over the single-thread pool. The header shows how many
+     * cores the JVM sees; pools larger than that cannot speed up.
+     */
+    public static void compareNextGreater(int n) {
+        System.out.println("\n===== Daily Temperatures (" + n + " readings, "
+                + Runtime.getRuntime().availableProcessors() + " cores) =====\n");
+
+        int[] temperatures = new java.util.Random(9).ints(n, -40, 50).toArray();
+
+        StackBenchmark.measure("StackPracticeProblems", n,
+                () -> sink += StackPracticeProblems.dailyTemperatures(temperatures)[0]);
+        StackBenchmark.measure("NextGreater, int[] stack", n,
+                () -> sink += NextGreater.dailyTemperatures(temperatures)[0]);
+
+        long single = 0;
+        for (int threads : new int[] { 1, 2, 4, 8 }) {
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(threads);
+            long best = StackBenchmark.measure("NextGreater, parallel x" + threads, n,
+                    () -> sink += NextGreater.dailyTemperatures(temperatures, pool)[0]);
+            pool.shutdown();
+            if (threads == 1) {
+                single = best;
+            } else {
+                System.out.printf("%-34s%10.2fx\n", "  speedup over x1", (double) single / best);
+            }
+        }
+    }
+
+    /**
+     * Sustained events/sec of StreamingNextGreater on generated readings,
+     * with its peak stack size, the bytes its arrays hold and the JVM's peak
+     * heap use. "falling" is a slow downward trend with noise, the worst case
+     * for the unbounded mode.
+     */
+    public static void compareStreamingNextGreater(int events) {
+        System.out.println("\n===== Streaming Daily Temperatures (" + events + " readings) =====\n");
+
+        for (String trend : new String[] { "random", "falling" }) {
+            for (long horizon : new long[] { Long.MAX_VALUE, 10000 }) {
+                String name = trend + (horizon == Long.MAX_VALUE ? ", unbounded" : ", horizon " + horizon);
+                StreamingNextGreater[] last = new StreamingNextGreater[1];
+                java.lang.management.ManagementFactory.getMemoryPoolMXBeans()
+                        .forEach(java.lang.management.MemoryPoolMXBean::resetPeakUsage);
+
+                StackBenchmark.measure(name, events, () -> {
+                    long[] waited = new long[1];
+                    StreamingNextGreater operator = new StreamingNextGreater(
+                            (index, nextIndex, nextValue) -> waited[0] += nextIndex - index, horizon);
+                    long seed = 42;
+                    for (int i = 0; i < events; i++) {
+                        seed ^= seed << 13; // xorshift: readings are produced on the fly, never stored
+                        seed ^= seed >>> 7;
+                        seed ^= seed << 17;
+                        int noise = (int) ((seed >>> 40) % 80);
+                        operator.accept(trend.equals("random") ? noise : (events - i) / 100 + noise);
+                    }
+                    operator.finish();
+                    sink += waited[0];
+                    last[0] = operator;
+                });
+
+                long peakHeap = 0;
+                for (java.lang.management.MemoryPoolMXBean pool : java.lang.management.ManagementFactory
+                        .getMemoryPoolMXBeans()) {
+                    if (pool.getType() == java.lang.management.MemoryType.HEAP) {
+                        peakHeap += pool.getPeakUsage().getUsed();
+                    }
+                }
+                System.out.printf("%34s peak stack %d, arrays %.1f KB, peak heap %.1f MB\n", "",
+                        last[0].peakSize(), last[0].retainedBytes() / 1024.0, peakHeap / 1048576.0);
+            }
+        }
+    }
+
+    public static void main(String args[]) {
+        compareNextGreater(10000000);
+        compareStreamingNextGreater(10000000);
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Operator Table
+ *
+ * The operators and functions ExpressionParser understands, with their
+ * precedence and associativity, kept in a table instead of a switch:
+ * - binary operators: a symbol character, a precedence (higher binds
+ *   tighter) and whether it is right associative
+ * - prefix operators: a symbol character and the precedence of the operand
+ *   they take
+ * - functions: a name and a number of arguments
+ *
+ * standard() returns a table with
+ *   + -        precedence 10, left associative
+ *   * / %      precedence 20, left associative
+ *   unary - +  precedence 30 (so -2 * 3 is (-2) * 3)
+ *   ^          precedence 40, right associative (so -2 ^ 2 is -(2 ^ 2))
+ *   min(a, b, ...), max(a, b, ...) with two or more arguments, abs(a)
+ * Built-in entries compile to their own opcodes; registered ones compile to
+ * a call of the given LongUnaryOperator / LongBinaryOperator.
+ *
+ * A table may be changed until it is used to compile; after that it should
+ * be treated as read-only, since compiling reads it without locking.
+ */
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+public class OperatorTable {
+    public static final int ADDITIVE = 10;
+    public static final int MULTIPLICATIVE = 20;
+    public static final int PREFIX = 30;
+    public static final int POWER = 40;
+
+    static final int NONE = -2; // Opcode of an operator that emits no instruction (unary plus)
+
+    /**
+     * One operator or function
+     */
+    static final class Entry {
+        final int precedence; // Unused for functions
+        final boolean rightAssociative;
+        final int opcode; // CompiledExpression opcode, or -1 for a registered operator
+        final LongUnaryOperator unary; // Registered prefix operator or 1-argument function
+        final LongBinaryOperator binary; // Registered binary operator or 2-argument function
+        final int minArguments; // Functions only
+        final int maxArguments;
+
+        Entry(int precedence, boolean rightAssociative, int opcode, LongUnaryOperator unary, LongBinaryOperator binary,
+                int minArguments, int maxArguments) {
+            this.precedence = precedence;
+            this.rightAssociative = rightAssociative;
+            this.opcode = opcode;
+            this.unary = unary;
+            this.binary = binary;
+            this.minArguments = minArguments;
+            this.maxArguments = maxArguments;
+        }
+    }
+
+    // Indexed by symbol; operator symbols are ASCII
+    private final Entry[] binaryOperators = new Entry[128];
+    private final Entry[] prefixOperators = new Entry[128];
+    private final Map<String, Entry> functions = new HashMap<>();
+
+    /**
+     * A table with the standard operators and functions
+     */
+    public static OperatorTable standard() {
+        OperatorTable table = new OperatorTable();
+        table.binaryOperators['+'] = new Entry(ADDITIVE, false, CompiledExpression.ADD, null, null, 2, 2);
+        table.binaryOperators['-'] = new Entry(ADDITIVE, false, CompiledExpression.SUB, null, null, 2, 2);
+        table.binaryOperators['*'] = new Entry(MULTIPLICATIVE, false, CompiledExpression.MUL, null, null, 2, 2);
+        table.binaryOperators['/'] = new Entry(MULTIPLICATIVE, false, CompiledExpression.DIV, null, null, 2, 2);
+        table.binaryOperators['%'] = new Entry(MULTIPLICATIVE, false, CompiledExpression.MOD, null, null, 2, 2);
+        table.binaryOperators['^'] = new Entry(POWER, true, CompiledExpression.POW, null, null, 2, 2);
+        table.prefixOperators['-'] = new Entry(PREFIX, false, CompiledExpression.NEG, null, null, 1, 1);
+        table.prefixOperators['+'] = new Entry(PREFIX, false, NONE, null, null, 1, 1);
+        table.functions.put("min", new Entry(0, false, CompiledExpression.MIN, null, null, 2, Integer.MAX_VALUE));
+        table.functions.put("max", new Entry(0, false, CompiledExpression.MAX, null, null, 2, Integer.MAX_VALUE));
+        table.functions.put("abs", new Entry(0, false, CompiledExpression.ABS, null, null, 1, 1));
+        return table;
+    }
+
+    private static void checkSymbol(char symbol) {
+        if (symbol >= 128 || Character.isLetterOrDigit(symbol) || Character.isWhitespace(symbol) || symbol == '('
+                || symbol == ')' || symbol == ',' || symbol == '_') {
+            throw new IllegalArgumentException("Not an operator symbol: '" + symbol + "'");
+        }
+    }
+
+    /**
+     * Adds or replaces a binary operator
+     */
+    public OperatorTable registerBinary(char symbol, int precedence, boolean rightAssociative,
+            LongBinaryOperator operator) {
+        checkSymbol(symbol);
+        binaryOperators[symbol] = new Entry(precedence, rightAssociative, -1, null, operator, 2, 2);
+        return this;
+    }
+
+    /**
+     * Adds or replaces a prefix operator; its operand is parsed at the given
+     * precedence
+     */
+    public OperatorTable registerPrefix(char symbol, int precedence, LongUnaryOperator operator) {
+        checkSymbol(symbol);
+        prefixOperators[symbol] = new Entry(precedence, false, -1, operator, null, 1, 1);
+        return this;
+    }
+
+    /**
+     * Adds or replaces a function of one argument
+     */
+    public OperatorTable registerFunction(String name, LongUnaryOperator function) {
+        functions.put(name, new Entry(0, false, -1, function, null, 1, 1));
+        return this;
+    }
+
+    /**
+     * Adds or replaces a function of two arguments
+     */
+    public OperatorTable registerFunction(String name, LongBinaryOperator function) {
+        functions.put(name, new Entry(0, false, -1, null, function, 2, 2));
+        return this;
+    }
+
+    Entry binary(char symbol) {
+        return symbol < 128 ? binaryOperators[symbol] : null;
+    }
+
+    Entry prefix(char symbol) {
+        return symbol < 128 ? prefixOperators[symbol] : null;
+    }
+
+    Entry function(String name) {
+        return functions.get(name);
+    }
+}
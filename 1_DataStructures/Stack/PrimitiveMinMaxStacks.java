@@ -0,0 +1,292 @@
+/**
+ * Min/Max Stacks on primitive arrays
+ *
+ * StackPracticeProblems.MinStack keeps two java.util.Stack<Integer> objects.
+ * java.util.Stack extends Vector, so every push and pop enters a monitor and
+ * every value outside the Integer cache is boxed into a new object.
+ *
+ * The stacks here store each value together with the minimum (or maximum)
+ * of everything at or below it, in primitive arrays that grow by doubling:
+ * - MinStack / MaxStack: one long[] entry per element, value in the high
+ *   32 bits and the running min (max) in the low 32 bits
+ * - MinMaxStack: the values in an int[] and the running min and max packed
+ *   into a long[] alongside
+ *
+ * Once the arrays are large enough nothing allocates; getMin and getMax are
+ * a single array read. Like StackPracticeProblems.MinStack, pop on an empty
+ * stack does nothing and top/getMin/getMax throw when empty.
+ *
+ * Time Complexity:
+ * - push: O(1) amortized
+ * - pop: O(1)
+ * - top: O(1)
+ * - getMin / getMax: O(1)
+ */
+import java.util.Arrays;
+
+public class PrimitiveMinMaxStacks {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static int high(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    private static int low(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * A stack of (value, running extreme) pairs; subclasses decide whether the
+     * extreme is the minimum or the maximum
+     */
+    private abstract static class PairStack {
+        private long[] entries = new long[DEFAULT_CAPACITY]; // Top at size - 1
+        private int size;
+
+        // The extreme of value and the extreme of everything below it
+        abstract int combine(int value, int extremeBelow);
+
+        /**
+         * Pushes an element onto the stack
+         * Time Complexity: O(1) amortized
+         */
+        public void push(int val) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            int extreme = size == 0 ? val : combine(val, low(entries[size - 1]));
+            entries[size++] = pack(val, extreme);
+        }
+
+        /**
+         * Removes the element on top of the stack
+         * Time Complexity: O(1)
+         */
+        public void pop() {
+            if (size > 0) {
+                size--;
+            }
+        }
+
+        /**
+         * Get the top element
+         * Time Complexity: O(1)
+         */
+        public int top() {
+            if (size == 0) {
+                throw new RuntimeException("Stack is empty");
+            }
+            return high(entries[size - 1]);
+        }
+
+        int extreme() {
+            if (size == 0) {
+                throw new RuntimeException("Stack is empty");
+            }
+            return low(entries[size - 1]);
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Stack with a constant-time, allocation-free getMin
+     */
+    static final class MinStack extends PairStack {
+        @Override
+        int combine(int value, int extremeBelow) {
+            return Math.min(value, extremeBelow);
+        }
+
+        /**
+         * Retrieve the minimum element in the stack
+         * Time Complexity: O(1)
+         */
+        public int getMin() {
+            return extreme();
+        }
+    }
+
+    /**
+     * Stack with a constant-time, allocation-free getMax
+     */
+    static final class MaxStack extends PairStack {
+        @Override
+        int combine(int value, int extremeBelow) {
+            return Math.max(value, extremeBelow);
+        }
+
+        /**
+         * Retrieve the maximum element in the stack
+         * Time Complexity: O(1)
+         */
+        public int getMax() {
+            return extreme();
+        }
+    }
+
+    /**
+     * Stack with both getMin and getMax in constant time
+     */
+    static final class MinMaxStack {
+        private int[] values = new int[DEFAULT_CAPACITY]; // Top at size - 1
+        private long[] bounds = new long[DEFAULT_CAPACITY]; // (min, max) of values[0..i]
+        private int size;
+
+        /**
+         * Pushes an element onto the stack
+         * Time Complexity: O(1) amortized
+         */
+        public void push(int val) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                bounds = Arrays.copyOf(bounds, size * 2);
+            }
+            long bound = size == 0 ? pack(val, val)
+                    : pack(Math.min(val, high(bounds[size - 1])), Math.max(val, low(bounds[size - 1])));
+            values[size] = val;
+            bounds[size++] = bound;
+        }
+
+        /**
+         * Removes the element on top of the stack
+         * Time Complexity: O(1)
+         */
+        public void pop() {
+            if (size > 0) {
+                size--;
+            }
+        }
+
+        /**
+         * Get the top element
+         * Time Complexity: O(1)
+         */
+        public int top() {
+            if (size == 0) {
+                throw new RuntimeException("Stack is empty");
+            }
+            return values[size - 1];
+        }
+
+        /**
+         * Retrieve the minimum element in the stack
+         * Time Complexity: O(1)
+         */
+        public int getMin() {
+            if (size == 0) {
+                throw new RuntimeException("Stack is empty");
+            }
+            return high(bounds[size - 1]);
+        }
+
+        /**
+         * Retrieve the maximum element in the stack
+         * Time Complexity: O(1)
+         */
+        public int getMax() {
+            if (size == 0) {
+                throw new RuntimeException("Stack is empty");
+            }
+            return low(bounds[size - 1]);
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Pushes and pops random values on all three stacks and checks every
+     * top/min/max against StackPracticeProblems.MinStack and a brute-force scan
+     */
+    public static void crossCheck(int operations, long seed) {
+        java.util.Random random = new java.util.Random(seed);
+        StackPracticeProblems.MinStack reference = new StackPracticeProblems.MinStack();
+        MinStack minStack = new MinStack();
+        MaxStack maxStack = new MaxStack();
+        MinMaxStack minMaxStack = new MinMaxStack();
+        int[] shadow = new int[operations];
+        int size = 0;
+        int mismatches = 0;
+
+        for (int i = 0; i < operations; i++) {
+            if (size == 0 || random.nextInt(3) > 0) {
+                // Extreme values included, so packing must keep the sign
+                int value = random.nextInt(10) == 0 ? (random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE)
+                        : random.nextInt(2001) - 1000;
+                reference.push(value);
+                minStack.push(value);
+                maxStack.push(value);
+                minMaxStack.push(value);
+                shadow[size++] = value;
+            } else {
+                reference.pop();
+                minStack.pop();
+                maxStack.pop();
+                minMaxStack.pop();
+                size--;
+            }
+            if (size == 0) {
+                continue;
+            }
+
+            int max = Integer.MIN_VALUE;
+            for (int j = 0; j < size; j++) {
+                max = Math.max(max, shadow[j]);
+            }
+            if (minStack.top() != reference.top() || minStack.getMin() != reference.getMin()
+                    || maxStack.top() != shadow[size - 1] || maxStack.getMax() != max
+                    || minMaxStack.top() != shadow[size - 1] || minMaxStack.getMin() != reference.getMin()
+                    || minMaxStack.getMax() != max) {
+                mismatches++;
+            }
+        }
+        System.out.println("Mismatches after " + operations + " operations: " + mismatches);
+        System.out.println(mismatches == 0 ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Min/Max Stacks on primitive arrays =====\n");
+
+        MinStack minStack = new MinStack();
+        minStack.push(-2);
+        minStack.push(0);
+        minStack.push(-3);
+        System.out.println("getMin() -> " + minStack.getMin()); // Expected: -3
+        minStack.pop();
+        System.out.println("top() -> " + minStack.top()); // Expected: 0
+        System.out.println("getMin() -> " + minStack.getMin()); // Expected: -2
+
+        MaxStack maxStack = new MaxStack();
+        maxStack.push(5);
+        maxStack.push(1);
+        maxStack.push(7);
+        System.out.println("getMax() -> " + maxStack.getMax()); // Expected: 7
+        maxStack.pop();
+        System.out.println("getMax() -> " + maxStack.getMax()); // Expected: 5
+
+        MinMaxStack minMaxStack = new MinMaxStack();
+        minMaxStack.push(3);
+        minMaxStack.push(-1);
+        minMaxStack.push(8);
+        System.out.println("getMin() -> " + minMaxStack.getMin() + ", getMax() -> " + minMaxStack.getMax()); // Expected: -1, 8
+
+        System.out.println();
+        crossCheck(20000, 42);
+    }
+}
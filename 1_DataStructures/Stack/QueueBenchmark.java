@@ -0,0 +1,168 @@
+/**
+ * Queue Benchmarks
+ *
+ * Throughput of SlidingWindowAggregator against rescanning the window, and
+ * latency percentiles of StackPracticeProblems.MyQueue against IntRingQueue,
+ * on one thread and handed between two. Timing and allocation come from
+ * StackBenchmark.measure.
+ */
+public class QueueBenchmark {
+    // Prevents the JIT from removing work whose result is never used
+    private static long sink;
+
+    /**
+     * Slides n random values through windows from 10 to 10^6 with
+     * SlidingWindowAggregator, and with a per-event rescan of the window
+     * while that stays affordable
+     */
+    public static void compareSlidingWindow(int n) {
+        System.out.println("\n===== Sliding Window (" + n + " events) =====\n");
+
+        long[] values = new java.util.Random(3).longs(n, 0, 1000000).toArray();
+        LongMonoid[] monoids = { LongMonoid.MIN, LongMonoid.MAX, LongMonoid.SUM, LongMonoid.GCD };
+        String[] names = { "min", "max", "sum", "gcd" };
+
+        for (int window = 10; window <= 1000000; window *= 10) {
+            int w = window;
+            for (int m = 0; m < monoids.length; m++) {
+                LongMonoid monoid = monoids[m];
+                StackBenchmark.measure("window " + w + ", " + names[m], n, () -> {
+                    SlidingWindowAggregator aggregator = new SlidingWindowAggregator(w, monoid);
+                    long sum = 0;
+                    for (long value : values) {
+                        sum += aggregator.slide(value);
+                    }
+                    sink += sum;
+                });
+            }
+
+            // Rescanning costs window combines per event; keep it to about
+            // 10^8 in total, over full windows only
+            int rescanEvents = (int) Math.min(n - w + 1, 100000000L / w);
+            if (rescanEvents >= 1000) {
+                StackBenchmark.measure("window " + w + ", min (rescan)", rescanEvents, () -> {
+                    long sum = 0;
+                    for (int i = w - 1; i < w - 1 + rescanEvents; i++) {
+                        sum += SlidingWindowAggregator.rescan(values, i, w, LongMonoid.MIN);
+                    }
+                    sink += sum;
+                });
+            }
+        }
+    }
+
+    private static void printLatencies(String name, StackBenchmarkSuite.LatencyRecorder latencies) {
+        System.out.printf("%-34s%10d%10d%10d\n", name, latencies.percentile(0.50), latencies.percentile(0.99),
+                latencies.percentile(0.999));
+    }
+
+    /**
+     * Latency percentiles of StackPracticeProblems.MyQueue and IntRingQueue:
+     * - one thread doing push/pop pairs on a queue holding depth values
+     * - a value handed from a producer thread to a consumer thread (the
+     *   producer waits until the previous value was taken), with MyQueue
+     *   guarded by synchronized and with IntRingQueue.Spsc
+     */
+    public static void compareQueueLatency(int samples, int depth) throws InterruptedException {
+        System.out.println("\n===== Queue Latency (" + samples + " samples, depth " + depth + ") =====\n");
+        System.out.printf("%-34s%10s%10s%10s\n", "push + pop, one thread", "p50 ns", "p99 ns", "p99.9 ns");
+
+        for (int round = 0; round < 2; round++) { // The first round is warm-up
+            StackBenchmarkSuite.LatencyRecorder old = new StackBenchmarkSuite.LatencyRecorder();
+            StackPracticeProblems.MyQueue myQueue = new StackPracticeProblems.MyQueue();
+            for (int i = 0; i < depth; i++) {
+                myQueue.push(1000 + i);
+            }
+            long sum = 0;
+            for (int i = 0; i < samples; i++) {
+                long startTime = System.nanoTime();
+                myQueue.push(1000 + i);
+                sum += myQueue.pop();
+                old.record(System.nanoTime() - startTime);
+            }
+
+            StackBenchmarkSuite.LatencyRecorder ring = new StackBenchmarkSuite.LatencyRecorder();
+            IntRingQueue ringQueue = new IntRingQueue();
+            for (int i = 0; i < depth; i++) {
+                ringQueue.push(1000 + i);
+            }
+            for (int i = 0; i < samples; i++) {
+                long startTime = System.nanoTime();
+                ringQueue.push(1000 + i);
+                sum += ringQueue.pop();
+                ring.record(System.nanoTime() - startTime);
+            }
+            sink += sum;
+
+            if (round == 1) {
+                printLatencies("StackPracticeProblems.MyQueue", old);
+                printLatencies("IntRingQueue", ring);
+            }
+        }
+
+        System.out.printf("\n%-34s%10s%10s%10s\n", "handoff between threads", "p50 ns", "p99 ns", "p99.9 ns");
+        int handoffs = Math.min(samples, 200000);
+        for (int round = 0; round < 2; round++) {
+            StackPracticeProblems.MyQueue myQueue = new StackPracticeProblems.MyQueue();
+            StackBenchmarkSuite.LatencyRecorder old = measureHandoff(handoffs, value -> {
+                synchronized (myQueue) {
+                    myQueue.push(value);
+                }
+            }, () -> {
+                synchronized (myQueue) {
+                    return myQueue.empty() ? -1 : myQueue.pop();
+                }
+            });
+
+            IntRingQueue.Spsc spsc = new IntRingQueue.Spsc(1024);
+            StackBenchmarkSuite.LatencyRecorder ring = measureHandoff(handoffs, spsc::push,
+                    () -> spsc.empty() ? -1 : spsc.pop());
+
+            if (round == 1) {
+                printLatencies("MyQueue (synchronized)", old);
+                printLatencies("IntRingQueue.Spsc", ring);
+            }
+        }
+    }
+
+    /**
+     * Sends 0..count-1 from a producer thread to the calling thread one at a
+     * time and records how long each value took to arrive. poll returns -1
+     * when nothing is available.
+     */
+    private static StackBenchmarkSuite.LatencyRecorder measureHandoff(int count,
+            java.util.function.IntConsumer push, java.util.function.IntSupplier poll) throws InterruptedException {
+        long[] sentAt = new long[count];
+        java.util.concurrent.atomic.AtomicInteger received = new java.util.concurrent.atomic.AtomicInteger();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (received.get() < i) {
+                    Thread.yield(); // Wait until the previous value was taken
+                }
+                sentAt[i] = System.nanoTime(); // Published to the consumer by the queue itself
+                push.accept(i);
+            }
+        });
+        producer.start();
+
+        StackBenchmarkSuite.LatencyRecorder latencies = new StackBenchmarkSuite.LatencyRecorder();
+        for (int i = 0; i < count; i++) {
+            int value;
+            while ((value = poll.getAsInt()) < 0) {
+                Thread.onSpinWait();
+                if (Runtime.getRuntime().availableProcessors() == 1) {
+                    Thread.yield(); // Let the producer run on a single core
+                }
+            }
+            latencies.record(System.nanoTime() - sentAt[value]);
+            received.lazySet(i + 1);
+        }
+        producer.join();
+        return latencies;
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        compareSlidingWindow(2000000);
+        compareQueueLatency(1000000, 1000);
+    }
+}
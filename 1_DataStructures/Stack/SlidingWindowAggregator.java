@@ -0,0 +1,220 @@
+/**
+ * Sliding-window aggregator on a two-stack queue
+ *
+ * A FIFO queue built from two stacks, like StackPracticeProblems.MyQueue, where
+ * each stack also tracks an aggregate the way MinStack tracks its minimum.
+ * That gives the min, max, sum or any other LongMonoid of everything in the
+ * queue in O(1) amortized time, instead of rescanning the window per event.
+ *
+ * - The back stack receives pushes. Only one running aggregate is kept for
+ *   it: back = combine(back, value).
+ * - The front stack serves pops, oldest value on top. Each entry stores the
+ *   aggregate of itself and every entry below it, i.e. of every newer value
+ *   still in the front, so the top entry holds the aggregate of the whole
+ *   front.
+ * - When the front is empty, the back is flipped onto it (each value moves
+ *   once, so pop is O(1) amortized) and the back aggregate is reset.
+ *
+ * The window aggregate is combine(aggregate of front, back), oldest first,
+ * so the monoid does not need to be commutative.
+ *
+ * Values and aggregates are stored in long[] arrays that grow by doubling;
+ * once they are large enough nothing allocates.
+ *
+ * Time Complexity:
+ * - push: O(1) amortized
+ * - pop: O(1) amortized
+ * - aggregate: O(1)
+ * - slide: O(1) amortized
+ */
+import java.util.Arrays;
+
+public class SlidingWindowAggregator {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final LongMonoid monoid;
+    private final int window; // Maximum number of values slide keeps
+
+    private long[] backValues = new long[DEFAULT_CAPACITY]; // Newest on top
+    private int backSize;
+    private long backAggregate;
+
+    private long[] frontValues = new long[DEFAULT_CAPACITY]; // Oldest on top
+    private long[] frontAggregates = new long[DEFAULT_CAPACITY]; // Entry i aggregates frontValues[0..i]
+    private int frontSize;
+
+    public SlidingWindowAggregator(int window, LongMonoid monoid) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be at least 1");
+        }
+        this.window = window;
+        this.monoid = monoid;
+        this.backAggregate = monoid.identity();
+    }
+
+    /**
+     * Adds a value at the back of the queue
+     * Time Complexity: O(1) amortized
+     */
+    public void push(long value) {
+        if (backSize == backValues.length) {
+            backValues = Arrays.copyOf(backValues, backSize * 2);
+        }
+        backValues[backSize++] = value;
+        backAggregate = monoid.combine(backAggregate, value);
+    }
+
+    /**
+     * Moves every value from the back stack to the front stack, computing the
+     * front aggregates from newest to oldest
+     * Time Complexity: O(n), but each value is moved only once
+     */
+    private void flip() {
+        if (frontValues.length < backSize) {
+            frontValues = new long[backValues.length];
+            frontAggregates = new long[backValues.length];
+        }
+        long aggregate = monoid.identity();
+        // frontValues[0] is the newest value, frontValues[backSize - 1] the oldest
+        for (int i = 0; i < backSize; i++) {
+            long value = backValues[backSize - 1 - i];
+            aggregate = monoid.combine(value, aggregate);
+            frontValues[i] = value;
+            frontAggregates[i] = aggregate;
+        }
+        frontSize = backSize;
+        backSize = 0;
+        backAggregate = monoid.identity();
+    }
+
+    /**
+     * Removes and returns the oldest value
+     * Time Complexity: O(1) amortized
+     */
+    public long pop() {
+        if (frontSize == 0) {
+            if (backSize == 0) {
+                throw new RuntimeException("Queue is empty");
+            }
+            flip();
+        }
+        return frontValues[--frontSize];
+    }
+
+    /**
+     * Returns the oldest value without removing it
+     * Time Complexity: O(1) amortized
+     */
+    public long peek() {
+        if (frontSize == 0) {
+            if (backSize == 0) {
+                throw new RuntimeException("Queue is empty");
+            }
+            flip();
+        }
+        return frontValues[frontSize - 1];
+    }
+
+    /**
+     * Aggregate of every value in the queue, oldest to newest; the monoid's
+     * identity when empty
+     * Time Complexity: O(1)
+     */
+    public long aggregate() {
+        if (frontSize == 0) {
+            return backAggregate;
+        }
+        return monoid.combine(frontAggregates[frontSize - 1], backAggregate);
+    }
+
+    /**
+     * Adds a value, drops the oldest one once more than window values are
+     * held, and returns the aggregate of the current window
+     * Time Complexity: O(1) amortized
+     */
+    public long slide(long value) {
+        push(value);
+        if (size() > window) {
+            pop();
+        }
+        return aggregate();
+    }
+
+    public boolean isEmpty() {
+        return frontSize == 0 && backSize == 0;
+    }
+
+    public int size() {
+        return frontSize + backSize;
+    }
+
+    /**
+     * Aggregate of values[i - window + 1 .. i] by rescanning the window, the
+     * O(window)-per-event approach this class replaces
+     */
+    static long rescan(long[] values, int i, int window, LongMonoid monoid) {
+        long aggregate = monoid.identity();
+        for (int j = Math.max(0, i - window + 1); j <= i; j++) {
+            aggregate = monoid.combine(aggregate, values[j]);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Slides random values through windows of several sizes with every
+     * built-in monoid and a non-commutative one, comparing each aggregate
+     * against a rescan
+     */
+    public static void crossCheck(int events, long seed) {
+        // Keeps the first value of the window: associative but not commutative
+        LongMonoid first = new LongMonoid() {
+            @Override
+            public long identity() {
+                return Long.MIN_VALUE;
+            }
+
+            @Override
+            public long combine(long a, long b) {
+                return a == Long.MIN_VALUE ? b : a;
+            }
+        };
+        long[] values = new java.util.Random(seed).longs(events, -1000, 1000).toArray();
+        int mismatches = 0;
+
+        for (int window : new int[] { 1, 3, 10, 100 }) {
+            for (LongMonoid monoid : new LongMonoid[] { LongMonoid.MIN, LongMonoid.MAX, LongMonoid.SUM,
+                    LongMonoid.GCD, first }) {
+                SlidingWindowAggregator aggregator = new SlidingWindowAggregator(window, monoid);
+                for (int i = 0; i < events; i++) {
+                    if (aggregator.slide(values[i]) != rescan(values, i, window, monoid)) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+        System.out.println("Mismatches: " + mismatches);
+        System.out.println(mismatches == 0 ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Sliding-window Aggregator =====\n");
+
+        long[] readings = { 5, 3, 8, 6, 2, 9, 4 };
+        SlidingWindowAggregator min = new SlidingWindowAggregator(3, LongMonoid.MIN);
+        SlidingWindowAggregator max = new SlidingWindowAggregator(3, LongMonoid.MAX);
+        SlidingWindowAggregator sum = new SlidingWindowAggregator(3, LongMonoid.SUM);
+        for (long reading : readings) {
+            System.out.println("add " + reading + " -> min " + min.slide(reading) + ", max " + max.slide(reading)
+                    + ", sum " + sum.slide(reading));
+        }
+        // Expected last line: add 4 -> min 2, max 9, sum 15
+
+        SlidingWindowAggregator gcd = new SlidingWindowAggregator(2, LongMonoid.GCD);
+        gcd.slide(12);
+        gcd.slide(18);
+        System.out.println("gcd(12, 18) = " + gcd.aggregate()); // Expected: 6
+
+        System.out.println();
+        crossCheck(5000, 11);
+    }
+}
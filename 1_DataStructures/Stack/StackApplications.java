@@ -41,15 +41,15 @@ public class StackApplications {
         // Check if stack is empty at the end
         if (!stack.isEmpty()) {
             System.out.println("Error: Extra opening brackets: " + stack);
-            return true;
-        } else {
-            System.out.println("Success: Brackets are balanced");
+            return false;
         }
 
-        return false;
+        System.out.println("Success: Brackets are balanced");
+        return true;
     }
 
     // Converting infix expression to postfix expression
+    // (single-character operands; CompiledExpression handles numbers and variables)
     public static String infixToPostfix(String infix) { // Time Complexity: O(n)
         StringBuilder postfix = new StringBuilder();
         Stack<Character> stack = new Stack<>();
@@ -91,7 +91,10 @@ public class StackApplications {
 
             // If the character is an operator
             else {
-                while (!stack.isEmpty() && precedence(c) <= precedence(stack.peek())) {
+                // Pop operators that bind tighter; on a tie only if c is left associative
+                // (^ is right associative, so 2^3^2 is 2^(3^2))
+                while (!stack.isEmpty() && (precedence(c) < precedence(stack.peek())
+                        || precedence(c) == precedence(stack.peek()) && c != '^')) {
                     postfix.append(stack.pop());
                     System.out.printf("%-8d%-8c%-16s%-16s%s\n", step++, c, "Pop higher prec", stack, postfix);
                 }
@@ -20,6 +20,15 @@ public class StackArrayList {
      */
     static class Stack {
         private ArrayList<Integer> elements = new ArrayList<>(); // Store stack elements
+        private StackListener listener = StackListener.NO_OP; // Notified on push/pop
+
+        /**
+         * Sets the listener notified on every push and pop.
+         * Use StackListener.LOGGING to print each operation.
+         */
+        public void setListener(StackListener listener) {
+            this.listener = listener == null ? StackListener.NO_OP : listener;
+        }
         
         /**
          * Adds an element to the top of the stack
@@ -30,7 +39,7 @@ public class StackArrayList {
          */
         public void push(int data) {
             elements.add(data);
-            System.out.println(data + " pushed to stack");
+            listener.onPush(data);
         }
 
         /**
@@ -55,7 +64,7 @@ public class StackArrayList {
                 return -1;
             }
             int topElement = elements.remove(elements.size() - 1);
-            System.out.println(topElement + " popped from stack");
+            listener.onPop(topElement);
             return topElement;
         }
 
@@ -112,6 +121,7 @@ public class StackArrayList {
         System.out.println("===== Stack Implementation using ArrayList =====\n");
         
         Stack stack = new Stack();
+        stack.setListener(StackListener.LOGGING); // Print every push and pop
         
         // Demonstrating push operations
         stack.push(1);
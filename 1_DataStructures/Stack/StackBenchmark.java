@@ -0,0 +1,355 @@
+/**
+ * Stack Benchmarks
+ *
+ * Throughput and allocation comparisons between the stack implementations
+ * in this directory. Each comparison warms up first so the JIT has compiled
+ * every path, then reports the best of several rounds. Allocation is read
+ * from the HotSpot per-thread allocation counter (the same number JMH's
+ * -prof gc reports as gc.alloc.rate.norm).
+ *
+ * measure and quietly are also used by the benchmarks of the structures
+ * built on these stacks, one class per subsystem, each with its own main:
+ * QueueBenchmark, NextGreaterBenchmark, ExpressionBenchmark and
+ * BracketBenchmark.
+ */
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+public class StackBenchmark {
+    static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    // Prevents the JIT from removing work whose result is never used
+    static long sink;
+
+    /**
+     * Bytes allocated so far by the current thread
+     */
+    static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs a workload ROUNDS times and prints the best time and the bytes
+     * allocated per operation in that same round, so both numbers describe
+     * one run
+     *
+     * @return the best time in nanoseconds
+     */
+    static long measure(String name, long operations, Runnable workload) {
+        workload.run(); // Warm-up
+        workload.run();
+
+        long best = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+            workload.run();
+            long elapsed = System.nanoTime() - startTime;
+            long allocated = allocatedBytes() - allocatedBefore;
+            if (elapsed < best) {
+                best = elapsed;
+                bytes = allocated;
+            }
+        }
+
+        System.out.printf("%-34s%10.1f Mops/s%12.2f bytes/op\n", name, operations * 1e3 / best,
+                (double) bytes / operations);
+        return best;
+    }
+
+    /**
+     * Runs a workload with System.out discarded, for stacks that are set up
+     * to print on every operation
+     */
+    static Runnable quietly(Runnable workload) {
+        return () -> {
+            PrintStream original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            try {
+                workload.run();
+            } finally {
+                System.setOut(original);
+            }
+        };
+    }
+
+    /**
+     * Push n values then pop them all, on IntArrayStack and both
+     * ArrayList-backed stacks. Values start above the Integer cache (-128..127)
+     * so boxing really allocates.
+     */
+    public static void compareIntArrayStack(int n) {
+        System.out.println("\n===== Push/Pop Throughput (" + n + " values) =====\n");
+
+        measure("IntArrayStack", 2L * n, () -> {
+            IntArrayStack stack = new IntArrayStack();
+            for (int i = 0; i < n; i++) {
+                stack.push(1000 + i);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.pop();
+            }
+            sink += sum;
+        });
+
+        measure("StackComparison.ArrayListStack", 2L * n, () -> {
+            StackComparison.ArrayListStack stack = new StackComparison.ArrayListStack();
+            for (int i = 0; i < n; i++) {
+                stack.push(1000 + i);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.pop();
+            }
+            sink += sum;
+        });
+
+        measure("StackArrayList.Stack", 2L * n, () -> {
+            StackArrayList.Stack stack = new StackArrayList.Stack();
+            for (int i = 0; i < n; i++) {
+                stack.push(1000 + i);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.pop();
+            }
+            sink += sum;
+        });
+
+        // Steady state: the array is already large enough, so nothing allocates
+        IntArrayStack warm = new IntArrayStack();
+        measure("IntArrayStack (steady state)", 2L * n, () -> {
+            for (int i = 0; i < n; i++) {
+                warm.push(1000 + i);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += warm.pop();
+            }
+            sink += sum;
+        });
+    }
+
+    /**
+     * n pushes followed by n pops on StackArrayList.Stack and
+     * StackLinkedList.Stack, with the default no-op listener and with the
+     * logging listener (stdout discarded, so only formatting and PrintStream
+     * cost is measured, not the terminal)
+     */
+    public static void compareListeners(int n) {
+        System.out.println("\n===== Stack Listener Cost (" + n + " push + " + n + " pop) =====\n");
+
+        for (StackListener listener : new StackListener[] { StackListener.NO_OP, StackListener.LOGGING }) {
+            String label = listener == StackListener.NO_OP ? "no-op" : "logging";
+
+            measure("StackArrayList.Stack, " + label, 2L * n, quietly(() -> {
+                StackArrayList.Stack stack = new StackArrayList.Stack();
+                stack.setListener(listener);
+                for (int i = 0; i < n; i++) {
+                    stack.push(i);
+                }
+                long sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += stack.pop();
+                }
+                sink += sum;
+            }));
+
+            measure("StackLinkedList.Stack, " + label, 2L * n, quietly(() -> {
+                StackLinkedList.Stack stack = new StackLinkedList.Stack();
+                stack.setListener(listener);
+                for (int i = 0; i < n; i++) {
+                    stack.push(i);
+                }
+                long sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += stack.pop();
+                }
+                sink += sum;
+            }));
+        }
+    }
+
+    /**
+     * Starts threads that each run pairsPerThread push/pop pairs and returns
+     * the elapsed time in nanoseconds
+     */
+    static long runConcurrently(int threads, int pairsPerThread, java.util.function.IntConsumer push,
+            java.util.function.IntSupplier pop) throws InterruptedException {
+        java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long sum = 0;
+                for (int i = 0; i < pairsPerThread; i++) {
+                    push.accept(i);
+                    sum += pop.getAsInt();
+                }
+                sink += sum; // Racy on purpose; only keeps the loop alive
+            });
+            workers[t].start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Push/pop pairs from 1 to 32 threads on TreiberStack and on a
+     * StackLinkedList.Stack guarded by synchronized
+     */
+    public static void compareContention(int totalPairs) throws InterruptedException {
+        System.out.println("\n===== Contention (" + totalPairs + " push/pop pairs, "
+                + Runtime.getRuntime().availableProcessors() + " cores) =====\n");
+        System.out.printf("%-10s%-22s%s\n", "Threads", "TreiberStack Mops/s", "synchronized Mops/s");
+
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            int perThread = totalPairs / threads;
+            TreiberStack lockFree = new TreiberStack();
+            StackLinkedList.Stack locked = new StackLinkedList.Stack();
+            java.util.function.IntConsumer lockedPush = value -> {
+                synchronized (locked) {
+                    locked.push(value);
+                }
+            };
+            java.util.function.IntSupplier lockedPop = () -> {
+                synchronized (locked) {
+                    return locked.pop();
+                }
+            };
+
+            long lockFreeBest = Long.MAX_VALUE;
+            long lockedBest = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                lockFreeBest = Math.min(lockFreeBest,
+                        runConcurrently(threads, perThread, lockFree::push, lockFree::pop));
+                lockedBest = Math.min(lockedBest, runConcurrently(threads, perThread, lockedPush, lockedPop));
+            }
+
+            long operations = 2L * perThread * threads;
+            System.out.printf("%-10d%-22.1f%.1f\n", threads, operations * 1e3 / lockFreeBest,
+                    operations * 1e3 / lockedBest);
+        }
+    }
+
+    /**
+     * Push/pop pairs from 1 to 32 threads on EliminationBackoffStack and
+     * TreiberStack, with the elimination stack's contention counters
+     */
+    public static void compareElimination(int totalPairs) throws InterruptedException {
+        System.out.println("\n===== Elimination Backoff (" + totalPairs + " push/pop pairs, "
+                + Runtime.getRuntime().availableProcessors() + " cores) =====\n");
+        System.out.printf("%-10s%-16s%-16s%-14s%-14s%s\n", "Threads", "Elim Mops/s", "Treiber Mops/s",
+                "CAS failures", "Eliminations", "Retries");
+
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            int perThread = totalPairs / threads;
+            long eliminationBest = Long.MAX_VALUE;
+            long treiberBest = Long.MAX_VALUE;
+            EliminationBackoffStack measured = null;
+
+            for (int round = 0; round < ROUNDS; round++) {
+                EliminationBackoffStack elimination = new EliminationBackoffStack();
+                long elapsed = runConcurrently(threads, perThread, elimination::push, elimination::pop);
+                if (elapsed < eliminationBest) {
+                    eliminationBest = elapsed;
+                    measured = elimination;
+                }
+                TreiberStack treiber = new TreiberStack();
+                treiberBest = Math.min(treiberBest, runConcurrently(threads, perThread, treiber::push, treiber::pop));
+            }
+
+            StackMetrics metrics = measured;
+            long operations = 2L * perThread * threads;
+            System.out.printf("%-10d%-16.1f%-16.1f%-14d%-14d%d\n", threads, operations * 1e3 / eliminationBest,
+                    operations * 1e3 / treiberBest, metrics.casFailures(), metrics.eliminations(),
+                    metrics.retries());
+        }
+    }
+
+    /**
+     * n pushes of random values, then n pops each followed by a getMin, on
+     * StackPracticeProblems.MinStack and the primitive-array min stacks
+     */
+    public static void compareMinStacks(int n) {
+        System.out.println("\n===== Min Stacks (" + n + " push + " + n + " pop/getMin) =====\n");
+
+        int[] values = new java.util.Random(7).ints(n, -1000000, 1000000).toArray();
+
+        measure("StackPracticeProblems.MinStack", 2L * n, () -> {
+            StackPracticeProblems.MinStack stack = new StackPracticeProblems.MinStack();
+            for (int value : values) {
+                stack.push(value);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.getMin();
+                stack.pop();
+            }
+            sink += sum;
+        });
+
+        measure("PrimitiveMinMaxStacks.MinStack", 2L * n, () -> {
+            PrimitiveMinMaxStacks.MinStack stack = new PrimitiveMinMaxStacks.MinStack();
+            for (int value : values) {
+                stack.push(value);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.getMin();
+                stack.pop();
+            }
+            sink += sum;
+        });
+
+        measure("PrimitiveMinMaxStacks.MinMaxStack", 2L * n, () -> {
+            PrimitiveMinMaxStacks.MinMaxStack stack = new PrimitiveMinMaxStacks.MinMaxStack();
+            for (int value : values) {
+                stack.push(value);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += stack.getMin() + stack.getMax();
+                stack.pop();
+            }
+            sink += sum;
+        });
+
+        // Steady state: the array is already large enough, so nothing allocates
+        PrimitiveMinMaxStacks.MinStack warm = new PrimitiveMinMaxStacks.MinStack();
+        measure("Primitive MinStack (steady state)", 2L * n, () -> {
+            for (int value : values) {
+                warm.push(value);
+            }
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += warm.getMin();
+                warm.pop();
+            }
+            sink += sum;
+        });
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        compareIntArrayStack(1000000);
+        compareListeners(10000000);
+        compareContention(4000000);
+        compareElimination(4000000);
+        compareMinStacks(1000000);
+    }
+}
@@ -0,0 +1,413 @@
+/**
+ * Stack Benchmark Suite
+ *
+ * Benchmarks every stack in this directory under the same workloads, the way
+ * a JMH run would, without needing JMH on the classpath:
+ *
+ * - Fork isolation: by default each (stack, workload, size) combination runs
+ *   in a fresh JVM, so JIT profiles and heap state from one stack cannot
+ *   help or hurt the next.
+ * - Warmup: WARMUP_ITERATIONS timed iterations are run and discarded first.
+ * - Dead-code protection: every popped/peeked value is folded into a sink
+ *   that is consumed at the end, so the JIT cannot drop the work.
+ * - Metrics: throughput (ops/us), latency percentiles from per-operation
+ *   sampling (p50/p99/p99.9), and bytes allocated per operation from the
+ *   per-thread allocation counter (what -prof gc reports). The counter is
+ *   sampled around the timed part only, so untimed fills and drains are not
+ *   counted.
+ *
+ * Workloads, on a stack prefilled to the given size:
+ * - push-heavy: push size values (timed), then pop them back (untimed)
+ * - pop-heavy:  push size values (untimed), then pop them all (timed)
+ * - mixed:      size iterations of push + pop
+ * - peek-heavy: size iterations of 8 peeks + push + pop
+ *
+ * Usage:
+ *   java StackBenchmarkSuite                      all stacks, workloads and sizes, forked
+ *   java StackBenchmarkSuite --no-fork            same, in this JVM
+ *   java StackBenchmarkSuite --stacks a,b --workloads mixed --sizes 100,10000
+ *   java StackBenchmarkSuite --run <stack> <workload> <size>   one combination (used by forks)
+ */
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StackBenchmarkSuite {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 200_000_000L; // Minimum length of one iteration
+    private static final int MAX_LATENCY_SAMPLES = 1 << 20;
+
+    static final String[] STACKS = { "StackArrayList.Stack", "StackLinkedList.Stack",
+            "StackComparison.ArrayListStack", "StackComparison.LinkedListStack", "StackPracticeProblems.MinStack",
+            "StackPracticeProblems.MyQueue", "PrimitiveMinMaxStacks.MinStack", "IntRingQueue", "IntArrayStack",
+            "TreiberStack", "EliminationBackoffStack" };
+    static final String[] WORKLOADS = { "push-heavy", "pop-heavy", "mixed", "peek-heavy" };
+    static final int[] SIZES = { 100, 10000, 1000000 };
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    // Every result is folded in here so the JIT cannot drop the work
+    private static long sink;
+
+    /**
+     * The operations every benchmarked stack supports, as a common shape
+     */
+    interface IntStack {
+        void push(int value);
+
+        int pop();
+
+        int peek();
+
+        /**
+         * The wrapped stack itself, for measurements that must not count
+         * the adapter
+         */
+        Object target();
+    }
+
+    /**
+     * Creates a fresh, empty instance of the named stack
+     */
+    static IntStack create(String name) {
+        switch (name) {
+            case "StackArrayList.Stack": {
+                StackArrayList.Stack stack = new StackArrayList.Stack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "StackLinkedList.Stack": {
+                StackLinkedList.Stack stack = new StackLinkedList.Stack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "StackComparison.ArrayListStack": {
+                StackComparison.ArrayListStack stack = new StackComparison.ArrayListStack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "StackComparison.LinkedListStack": {
+                StackComparison.LinkedListStack stack = new StackComparison.LinkedListStack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "StackPracticeProblems.MinStack": {
+                StackPracticeProblems.MinStack stack = new StackPracticeProblems.MinStack();
+                return adapter(stack, stack::push, () -> {
+                    int top = stack.top();
+                    stack.pop();
+                    return top;
+                }, stack::top);
+            }
+            case "PrimitiveMinMaxStacks.MinStack": {
+                PrimitiveMinMaxStacks.MinStack stack = new PrimitiveMinMaxStacks.MinStack();
+                return adapter(stack, stack::push, () -> {
+                    int top = stack.top();
+                    stack.pop();
+                    return top;
+                }, stack::top);
+            }
+            case "StackPracticeProblems.MyQueue": {
+                StackPracticeProblems.MyQueue queue = new StackPracticeProblems.MyQueue();
+                return adapter(queue, queue::push, queue::pop, queue::peek);
+            }
+            case "IntRingQueue": {
+                IntRingQueue queue = new IntRingQueue();
+                return adapter(queue, queue::push, queue::pop, queue::peek);
+            }
+            case "IntArrayStack": {
+                IntArrayStack stack = new IntArrayStack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "TreiberStack": {
+                TreiberStack stack = new TreiberStack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+            case "EliminationBackoffStack": {
+                EliminationBackoffStack stack = new EliminationBackoffStack();
+                return adapter(stack, stack::push, stack::pop, stack::peek);
+            }
+        }
+        throw new IllegalArgumentException("Unknown stack: " + name);
+    }
+
+    private static IntStack adapter(Object target, java.util.function.IntConsumer push,
+            java.util.function.IntSupplier pop, java.util.function.IntSupplier peek) {
+        return new IntStack() {
+            public void push(int value) {
+                push.accept(value);
+            }
+
+            public int pop() {
+                return pop.getAsInt();
+            }
+
+            public int peek() {
+                return peek.getAsInt();
+            }
+
+            public Object target() {
+                return target;
+            }
+        };
+    }
+
+    /**
+     * Result of one timed batch
+     */
+    private static class Batch {
+        long nanos; // Time spent in the timed part
+        long operations; // Operations in the timed part
+        long allocated; // Bytes allocated by this thread in the timed part
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs one batch of the workload. If latencies is not null, every timed
+     * operation is timed on its own and recorded there.
+     */
+    private static void runBatch(IntStack stack, String workload, int size, Batch batch, LatencyRecorder latencies) {
+        long sum = 0;
+        long allocatedBefore;
+        long startTime;
+        switch (workload) {
+            case "push-heavy":
+                allocatedBefore = allocatedBytes();
+                startTime = System.nanoTime();
+                if (latencies == null) {
+                    for (int i = 0; i < size; i++) {
+                        stack.push(i + 1000);
+                    }
+                } else {
+                    for (int i = 0; i < size; i++) {
+                        long t = System.nanoTime();
+                        stack.push(i + 1000);
+                        latencies.record(System.nanoTime() - t);
+                    }
+                }
+                batch.nanos += System.nanoTime() - startTime;
+                batch.allocated += allocatedBytes() - allocatedBefore;
+                batch.operations += size;
+                for (int i = 0; i < size; i++) {
+                    sum += stack.pop();
+                }
+                break;
+
+            case "pop-heavy":
+                for (int i = 0; i < size; i++) {
+                    stack.push(i + 1000);
+                }
+                allocatedBefore = allocatedBytes();
+                startTime = System.nanoTime();
+                if (latencies == null) {
+                    for (int i = 0; i < size; i++) {
+                        sum += stack.pop();
+                    }
+                } else {
+                    for (int i = 0; i < size; i++) {
+                        long t = System.nanoTime();
+                        sum += stack.pop();
+                        latencies.record(System.nanoTime() - t);
+                    }
+                }
+                batch.nanos += System.nanoTime() - startTime;
+                batch.allocated += allocatedBytes() - allocatedBefore;
+                batch.operations += size;
+                break;
+
+            case "mixed":
+                allocatedBefore = allocatedBytes();
+                startTime = System.nanoTime();
+                for (int i = 0; i < size; i++) {
+                    if (latencies == null) {
+                        stack.push(i + 1000);
+                        sum += stack.pop();
+                    } else {
+                        long t = System.nanoTime();
+                        stack.push(i + 1000);
+                        long t2 = System.nanoTime();
+                        sum += stack.pop();
+                        long t3 = System.nanoTime();
+                        latencies.record(t2 - t);
+                        latencies.record(t3 - t2);
+                    }
+                }
+                batch.nanos += System.nanoTime() - startTime;
+                batch.allocated += allocatedBytes() - allocatedBefore;
+                batch.operations += 2L * size;
+                break;
+
+            case "peek-heavy":
+                allocatedBefore = allocatedBytes();
+                startTime = System.nanoTime();
+                for (int i = 0; i < size; i++) {
+                    if (latencies == null) {
+                        for (int p = 0; p < 8; p++) {
+                            sum += stack.peek();
+                        }
+                    } else {
+                        for (int p = 0; p < 8; p++) {
+                            long t = System.nanoTime();
+                            sum += stack.peek();
+                            latencies.record(System.nanoTime() - t);
+                        }
+                    }
+                    stack.push(i + 1000);
+                    sum += stack.pop();
+                }
+                batch.nanos += System.nanoTime() - startTime;
+                batch.allocated += allocatedBytes() - allocatedBefore;
+                batch.operations += 10L * size;
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown workload: " + workload);
+        }
+        sink += sum;
+    }
+
+    /**
+     * Collects per-operation latencies, keeping at most MAX_LATENCY_SAMPLES
+     */
+    static class LatencyRecorder {
+        final long[] samples = new long[MAX_LATENCY_SAMPLES];
+        int count;
+
+        void record(long nanos) {
+            if (count < samples.length) {
+                samples[count++] = nanos;
+            }
+        }
+
+        long percentile(double p) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+        }
+    }
+
+    /**
+     * Runs one timed iteration: batches until ITERATION_NANOS have passed
+     */
+    private static Batch runIteration(IntStack stack, String workload, int size) {
+        Batch batch = new Batch();
+        long deadline = System.nanoTime() + ITERATION_NANOS;
+        do {
+            runBatch(stack, workload, size, batch, null);
+        } while (System.nanoTime() < deadline);
+        return batch;
+    }
+
+    /**
+     * Benchmarks one combination in this JVM and returns the result line
+     */
+    static String runOne(String stackName, String workload, int size) {
+        IntStack stack = create(stackName);
+        for (int i = 0; i < size; i++) {
+            stack.push(i); // Prefill: every workload starts from a stack of this size
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIteration(stack, workload, size);
+        }
+
+        double[] throughput = new double[MEASURE_ITERATIONS];
+        long operations = 0;
+        long allocated = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            Batch batch = runIteration(stack, workload, size);
+            allocated += batch.allocated;
+            operations += batch.operations;
+            throughput[i] = batch.operations * 1e3 / batch.nanos; // ops per microsecond
+        }
+
+        // Latency pass: per-operation timing (includes ~20 ns of timer overhead)
+        LatencyRecorder latencies = new LatencyRecorder();
+        Batch ignored = new Batch();
+        while (latencies.count < latencies.samples.length) {
+            runBatch(stack, workload, size, ignored, latencies);
+        }
+
+        double mean = Arrays.stream(throughput).average().orElse(0);
+        double deviation = Math.sqrt(Arrays.stream(throughput).map(t -> (t - mean) * (t - mean)).sum()
+                / Math.max(1, throughput.length - 1));
+
+        String line = String.format("%-34s%-12s%-10d%10.2f +- %-8.2f%8d%8d%10d%12.2f", stackName, workload, size,
+                mean, deviation, latencies.percentile(0.50), latencies.percentile(0.99),
+                latencies.percentile(0.999), (double) allocated / operations);
+        if (sink == 42) {
+            line += " "; // Consumes the sink so the work above stays
+        }
+        return line;
+    }
+
+    static String header() {
+        return String.format("%-34s%-12s%-10s%21s%8s%8s%10s%12s", "Stack", "Workload", "Size", "ops/us      ",
+                "p50 ns", "p99 ns", "p99.9 ns", "bytes/op");
+    }
+
+    /**
+     * Runs one combination in a fresh JVM and returns its result line
+     */
+    private static String runForked(String stackName, String workload, int size) throws Exception {
+        for (String line : BenchmarkSupport.fork(Arrays.asList("-Xmx2g"), "StackBenchmarkSuite", "--run", stackName,
+                workload, String.valueOf(size))) {
+            if (line.startsWith(stackName)) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("No result from the fork for " + stackName + "/" + workload + "/" + size);
+    }
+
+    public static void main(String args[]) throws Exception {
+        if (args.length == 4 && args[0].equals("--run")) {
+            System.out.println(runOne(args[1], args[2], Integer.parseInt(args[3])));
+            return;
+        }
+
+        boolean fork = true;
+        List<String> stacks = Arrays.asList(STACKS);
+        List<String> workloads = Arrays.asList(WORKLOADS);
+        int[] sizes = SIZES;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--no-fork":
+                    fork = false;
+                    break;
+                case "--stacks":
+                    stacks = Arrays.asList(args[++i].split(","));
+                    break;
+                case "--workloads":
+                    workloads = Arrays.asList(args[++i].split(","));
+                    break;
+                case "--sizes":
+                    sizes = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println("===== Stack Benchmark Suite (" + (fork ? "forked" : "in-process") + ", "
+                + WARMUP_ITERATIONS + " warmup + " + MEASURE_ITERATIONS + " measured iterations) =====\n");
+        System.out.println(header());
+        List<String> failures = new ArrayList<>();
+        for (String stackName : stacks) {
+            for (String workload : workloads) {
+                for (int size : sizes) {
+                    try {
+                        System.out.println(fork ? runForked(stackName, workload, size)
+                                : runOne(stackName, workload, size));
+                    } catch (Exception e) {
+                        failures.add(e.getMessage());
+                    }
+                }
+            }
+        }
+        for (String failure : failures) {
+            System.out.println("FAILED: " + failure);
+        }
+    }
+}
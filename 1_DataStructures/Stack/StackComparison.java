@@ -113,73 +113,55 @@ public class StackComparison {
     }
     
     /**
-     * Method to measure and compare performance of both stack implementations
+     * Method to measure and compare performance of both stack implementations.
+     * Each workload is warmed up and repeated (see StackBenchmark.measure);
+     * StackBenchmarkSuite covers every stack, workload and size.
      */
     public static void comparePerformance(int operations) {
         System.out.println("\n===== Performance Comparison =====\n");
         System.out.println("Performing " + operations + " push operations followed by " + operations + " pop operations\n");
         
-        // Test ArrayList Stack
-        long startTime = System.nanoTime();
-        ArrayListStack arrayStack = new ArrayListStack();
-        
-        // Push operations
-        for (int i = 0; i < operations; i++) {
-            arrayStack.push(i);
-        }
-        
-        // Pop operations
-        for (int i = 0; i < operations; i++) {
-            arrayStack.pop();
-        }
-        
-        long arrayListTime = System.nanoTime() - startTime;
-        
-        // Test LinkedList Stack
-        startTime = System.nanoTime();
-        LinkedListStack linkedStack = new LinkedListStack();
-        
-        // Push operations
-        for (int i = 0; i < operations; i++) {
-            linkedStack.push(i);
-        }
-        
-        // Pop operations
-        for (int i = 0; i < operations; i++) {
-            linkedStack.pop();
-        }
-        
-        long linkedListTime = System.nanoTime() - startTime;
-        
-        // Print results
-        System.out.println("ArrayList Stack time: " + arrayListTime / 1000000.0 + " ms");
-        System.out.println("LinkedList Stack time: " + linkedListTime / 1000000.0 + " ms");
+        StackBenchmark.measure("ArrayList Stack", 2L * operations, () -> {
+            ArrayListStack arrayStack = new ArrayListStack();
+            for (int i = 0; i < operations; i++) {
+                arrayStack.push(i);
+            }
+            long sum = 0;
+            for (int i = 0; i < operations; i++) {
+                sum += arrayStack.pop();
+            }
+            StackBenchmark.sink += sum;
+        });
         
-        if (arrayListTime < linkedListTime) {
-            System.out.println("ArrayList implementation was faster by: " + 
-                              ((linkedListTime - arrayListTime) / 1000000.0) + " ms");
-        } else {
-            System.out.println("LinkedList implementation was faster by: " + 
-                              ((arrayListTime - linkedListTime) / 1000000.0) + " ms");
-        }
+        StackBenchmark.measure("LinkedList Stack", 2L * operations, () -> {
+            LinkedListStack linkedStack = new LinkedListStack();
+            for (int i = 0; i < operations; i++) {
+                linkedStack.push(i);
+            }
+            long sum = 0;
+            for (int i = 0; i < operations; i++) {
+                sum += linkedStack.pop();
+            }
+            StackBenchmark.sink += sum;
+        });
     }
     
     /**
-     * Method to demonstrate memory usage differences
+     * Method to measure memory usage of both stack implementations.
+     * Prints the retained heap per element (see StackMemoryFootprint, which
+     * also compares compressed and uncompressed object pointers).
      */
     public static void compareMemoryUsage() {
         System.out.println("\n===== Memory Usage Comparison =====\n");
-        System.out.println("ArrayList Stack:");
-        System.out.println("- Stores elements in contiguous memory locations");
-        System.out.println("- May need to resize and copy all elements when capacity is reached");
-        System.out.println("- No overhead per element beyond the data itself");
-        System.out.println("- More memory-efficient for large number of elements");
+        System.out.println("Retained bytes per element (compressed oops: " + BenchmarkSupport.compressedOops()
+                + ")\n");
+        System.out.printf("%-12s%-20s%s\n", "Size", "ArrayList Stack", "LinkedList Stack");
         
-        System.out.println("\nLinkedList Stack:");
-        System.out.println("- Stores elements in nodes scattered throughout memory");
-        System.out.println("- Each node requires extra memory for the 'next' reference");
-        System.out.println("- No resizing operations needed");
-        System.out.println("- More memory overhead per element due to node structure");
+        for (int size = 10; size <= 100000; size *= 100) {
+            System.out.printf("%-12d%-20.2f%.2f\n", size,
+                    StackMemoryFootprint.bytesPerElement("StackComparison.ArrayListStack", size),
+                    StackMemoryFootprint.bytesPerElement("StackComparison.LinkedListStack", size));
+        }
     }
     
     /**
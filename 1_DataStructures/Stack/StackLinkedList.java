@@ -31,8 +31,19 @@ public class StackLinkedList {
      * Stack class that implements stack operations using linked list
      */
     static class Stack {
-        private static Node head = null; // Top of the stack
-        private static int size = 0;    // Track the size of stack
+        // State is per instance, so separate stacks never share nodes.
+        // A single instance is not thread-safe; see TreiberStack for concurrent use.
+        private Node head = null; // Top of the stack
+        private int size = 0;    // Track the size of stack
+        private StackListener listener = StackListener.NO_OP; // Notified on push/pop
+
+        /**
+         * Sets the listener notified on every push and pop.
+         * Use StackListener.LOGGING to print each operation.
+         */
+        public void setListener(StackListener listener) {
+            this.listener = listener == null ? StackListener.NO_OP : listener;
+        }
 
         /**
          * Adds an element to the top of the stack
@@ -41,7 +52,7 @@ public class StackLinkedList {
          * @return void
          * Time Complexity: O(1)
          */
-        public static void push(int data) {
+        public void push(int data) {
             Node newNode = new Node(data);
 
             if (head == null) {
@@ -51,7 +62,7 @@ public class StackLinkedList {
                 head = newNode;
             }
             size++;
-            System.out.println(data + " pushed to stack");
+            listener.onPush(data);
         }
 
         /**
@@ -60,7 +71,7 @@ public class StackLinkedList {
          * @return true if stack is empty, false otherwise
          * Time Complexity: O(1)
          */
-        public static boolean isEmpty() {
+        public boolean isEmpty() {
             return head == null;
         }
 
@@ -70,7 +81,7 @@ public class StackLinkedList {
          * @return The top element if stack is not empty, -1 otherwise
          * Time Complexity: O(1)
          */
-        public static int pop() {
+        public int pop() {
             if (isEmpty()) {
                 System.out.println("Stack Underflow");
                 return -1;
@@ -78,7 +89,7 @@ public class StackLinkedList {
             Node topNode = head;
             head = head.next;
             size--;
-            System.out.println(topNode.data + " popped from stack");
+            listener.onPop(topNode.data);
             return topNode.data;
         }
 
@@ -88,7 +99,7 @@ public class StackLinkedList {
          * @return The top element if stack is not empty, -1 otherwise
          * Time Complexity: O(1)
          */
-        public static int peek() {
+        public int peek() {
             if (isEmpty()) {
                 System.out.println("Stack is Empty");
                 return -1;
@@ -102,7 +113,7 @@ public class StackLinkedList {
          * @return The number of elements in the stack
          * Time Complexity: O(1)
          */
-        public static int size() {
+        public int size() {
             return size;
         }
         
@@ -111,7 +122,7 @@ public class StackLinkedList {
          * 
          * Time Complexity: O(n) where n is the number of elements
          */
-        public static void display() {
+        public void display() {
             if (isEmpty()) {
                 System.out.println("Stack is Empty");
                 return;
@@ -137,6 +148,7 @@ public class StackLinkedList {
         System.out.println("===== Stack Implementation using Linked List =====\n");
         
         Stack stack = new Stack();
+        stack.setListener(StackListener.LOGGING); // Print every push and pop
         
         // Demonstrating push operations
         stack.push(1);
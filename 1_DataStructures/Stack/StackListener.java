@@ -0,0 +1,42 @@
+/**
+ * Stack Listener
+ *
+ * Receives an event for every successful push and pop on StackArrayList.Stack
+ * and StackLinkedList.Stack. The stacks use NO_OP by default, so their hot
+ * path does no I/O and builds no strings; set LOGGING to get the
+ * "X pushed to stack" / "X popped from stack" lines back.
+ */
+public interface StackListener {
+    /**
+     * Does nothing; the default listener of every stack
+     */
+    StackListener NO_OP = new StackListener() {
+    };
+
+    /**
+     * Prints one line per operation to System.out
+     */
+    StackListener LOGGING = new StackListener() {
+        @Override
+        public void onPush(int data) {
+            System.out.println(data + " pushed to stack");
+        }
+
+        @Override
+        public void onPop(int data) {
+            System.out.println(data + " popped from stack");
+        }
+    };
+
+    /**
+     * Called after data has been pushed onto the stack
+     */
+    default void onPush(int data) {
+    }
+
+    /**
+     * Called after data has been popped from the stack
+     */
+    default void onPop(int data) {
+    }
+}
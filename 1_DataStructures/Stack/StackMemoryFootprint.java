@@ -0,0 +1,69 @@
+/**
+ * Stack Memory Footprint
+ *
+ * Measures how many bytes of heap each stack in this directory retains per
+ * element, from 10 to 10^7 elements, with and without compressed oops.
+ *
+ * Method (heap delta after GC, see BenchmarkSupport.retainedBytesPerElement):
+ * 1. Build enough stacks of the given size to hold about TARGET_ELEMENTS
+ *    values in total (one stack at the largest sizes), keeping them reachable.
+ * 2. Force GC and record the used heap.
+ * 3. Release the stacks and force GC again; the drop in used heap divided
+ *    by the number of values is the retained size per element, including
+ *    each stack's fixed overhead and any spare array capacity.
+ *
+ * Values pushed are 1000, 1001, ... so boxed stacks really hold one Integer
+ * per element instead of sharing the Integer cache (-128..127).
+ *
+ * Each stack is measured in a fresh JVM with the serial collector (whose
+ * used-heap figure after a full GC is exact), once with -XX:+UseCompressedOops
+ * (4-byte references) and once with -XX:-UseCompressedOops (8-byte
+ * references). Compressed class pointers stay on in both, so object headers
+ * are 12 bytes either way; a node holding an int and a reference is 24 bytes
+ * in both layouts, while an array of references doubles.
+ *
+ * Usage:
+ *   java StackMemoryFootprint                     all stacks, both layouts
+ *   java StackMemoryFootprint --measure <stack>   one stack in this JVM (used by forks)
+ */
+import java.util.Map;
+
+public class StackMemoryFootprint {
+    private static final int TARGET_ELEMENTS = 1000000; // Values held per measurement at small sizes
+    static final int[] SIZES = { 10, 100, 1000, 10000, 100000, 1000000, 10000000 };
+
+    /**
+     * Retained heap per element of the named stack when it holds n values
+     */
+    static double bytesPerElement(String stackName, int n) {
+        return BenchmarkSupport.retainedBytesPerElement(size -> {
+            StackBenchmarkSuite.IntStack stack = StackBenchmarkSuite.create(stackName);
+            for (int i = 0; i < size; i++) {
+                stack.push(1000 + i);
+            }
+            return stack.target(); // Keep the stack, not the adapter
+        }, n, TARGET_ELEMENTS);
+    }
+
+    public static void main(String args[]) throws Exception {
+        if (args.length == 2 && args[0].equals("--measure")) {
+            for (int size : SIZES) {
+                System.out.println(size + " " + bytesPerElement(args[1], size));
+            }
+            return;
+        }
+
+        System.out.println("===== Stack Memory Footprint (retained bytes per element) =====\n");
+        System.out.printf("%-34s%-12s%14s%14s\n", "Stack", "Size", "compressed", "uncompressed");
+        for (String stackName : StackBenchmarkSuite.STACKS) {
+            Map<Integer, Double> compressed = BenchmarkSupport.footprintForked("StackMemoryFootprint", stackName,
+                    true);
+            Map<Integer, Double> uncompressed = BenchmarkSupport.footprintForked("StackMemoryFootprint", stackName,
+                    false);
+            for (int size : SIZES) {
+                System.out.printf("%-34s%-12d%14.2f%14.2f\n", stackName, size, compressed.get(size),
+                        uncompressed.get(size));
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Stack Metrics
+ *
+ * Contention counters exposed by the concurrent stacks. All counts are
+ * totals since the stack was created and may be read while other threads
+ * are still pushing and popping.
+ */
+public interface StackMetrics {
+    /**
+     * Number of compare-and-set attempts on the top of the stack that failed
+     * because another thread changed it first
+     */
+    long casFailures();
+
+    /**
+     * Number of push/pop pairs that completed by exchanging a value directly
+     * between two threads, without touching the top of the stack
+     */
+    long eliminations();
+
+    /**
+     * Number of times an operation went back to retry the top of the stack
+     * after both its CAS and its elimination attempt failed
+     */
+    long retries();
+}
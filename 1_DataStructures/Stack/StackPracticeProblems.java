@@ -99,6 +99,8 @@ public class StackPracticeProblems {
      * Problem 3: Min Stack
      * 
      * Design a stack that supports push, pop, top, and retrieving the minimum element in constant time.
+     * 
+     * PrimitiveMinMaxStacks.MinStack is the same design without boxing or locking.
      */
     static class MinStack {
         private Stack<Integer> stack;
@@ -240,6 +242,8 @@ public class StackPracticeProblems {
      * Time Complexity: O(n) where n is the length of the array
      * Space Complexity: O(n)
      * 
+     * NextGreater has an int[]-stack version and a parallel version for large arrays.
+     * 
      * @param nums The input array
      * @return An array containing the next greater element for each element
      */
@@ -281,6 +285,8 @@ public class StackPracticeProblems {
      * Time Complexity: O(n) where n is the length of the array
      * Space Complexity: O(n)
      * 
+     * NextGreater has an int[]-stack version and a parallel version for large arrays.
+     * 
      * @param temperatures The array of daily temperatures
      * @return An array where each element is the number of days to wait for a warmer temperature
      */
@@ -0,0 +1,251 @@
+/**
+ * Streaming Next Greater Element / Daily Temperatures
+ *
+ * StackPracticeProblems.dailyTemperatures needs the whole array before it
+ * returns. This operator takes readings one at a time (or in batches) and
+ * reports each reading's answer the moment a larger reading arrives. It only
+ * keeps the monotonic stack of readings still waiting for a larger one,
+ * never the input itself.
+ *
+ * Readings are numbered 0, 1, 2, ... in arrival order. For every reading the
+ * listener receives exactly one call:
+ * - onResolved(index, nextIndex, nextValue) when a strictly larger reading
+ *   arrives (days to wait = nextIndex - index)
+ * - onUnresolved(index) when it expires or the stream is finished without
+ *   a larger reading
+ *
+ * Bounded-memory mode: with a horizon h, answers up to h readings away are
+ * still reported, but a reading for which the h-th following reading was not
+ * larger either expires. The stack then never holds more than h entries.
+ * Without a horizon it keeps growing on a steadily falling input, since
+ * every reading is still waiting.
+ *
+ * The stack is stored as parallel primitive arrays (long indices, int
+ * values) in a ring buffer: new readings push and pop at the top, expiry
+ * removes at the bottom.
+ *
+ * Time Complexity:
+ * - accept: O(1) amortized (each reading is pushed and removed once)
+ * - acceptAll: O(k) amortized for k readings
+ * Space Complexity: O(stack size), at most the horizon in bounded mode
+ */
+import java.util.Arrays;
+
+public class StreamingNextGreater {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Receives the answer of every reading
+     */
+    public interface Listener {
+        /**
+         * The reading at index was followed by a strictly larger one at
+         * nextIndex
+         */
+        void onResolved(long index, long nextIndex, int nextValue);
+
+        /**
+         * The reading at index expired, or the stream finished, before a
+         * larger reading arrived
+         */
+        default void onUnresolved(long index) {
+        }
+    }
+
+    private final Listener listener;
+    private final long horizon; // Long.MAX_VALUE when unbounded
+
+    private long[] indices; // Ring buffer; bottom of the stack at bottom & mask
+    private int[] values;
+    private int mask;
+    private long bottom; // Ring position of the oldest waiting reading
+    private long top; // Ring position after the newest waiting reading
+    private long nextIndex; // Index the next reading will get
+    private int peakSize;
+
+    /**
+     * Creates an operator that keeps every unresolved reading
+     */
+    public StreamingNextGreater(Listener listener) {
+        this(listener, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an operator in which a reading expires once the horizon-th
+     * reading after it was not larger either
+     */
+    public StreamingNextGreater(Listener listener, long horizon) {
+        if (horizon < 1) {
+            throw new IllegalArgumentException("horizon must be at least 1");
+        }
+        this.listener = listener;
+        this.horizon = horizon;
+        int capacity = IntRingQueue.powerOfTwoAtLeast((int) Math.min(horizon, DEFAULT_CAPACITY));
+        indices = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Doubles the ring buffer, keeping the waiting readings in order
+     * Time Complexity: O(n)
+     */
+    private void grow() {
+        int size = size();
+        long[] newIndices = new long[indices.length * 2];
+        int[] newValues = new int[values.length * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) ((bottom + i) & mask);
+            newIndices[i] = indices[slot];
+            newValues[i] = values[slot];
+        }
+        indices = newIndices;
+        values = newValues;
+        mask = newIndices.length - 1;
+        bottom = 0;
+        top = size;
+    }
+
+    /**
+     * Adds the next reading and reports every reading it resolves or expires
+     * Time Complexity: O(1) amortized
+     */
+    public void accept(int value) {
+        long index = nextIndex++;
+
+        // Resolve every waiting reading smaller than this one (newest first)
+        while (top != bottom && value > values[(int) ((top - 1) & mask)]) {
+            top--;
+            listener.onResolved(indices[(int) (top & mask)], index, value);
+        }
+
+        // Expire readings that have now waited horizon readings (oldest first)
+        while (top != bottom && index - indices[(int) (bottom & mask)] >= horizon) {
+            listener.onUnresolved(indices[(int) (bottom++ & mask)]);
+        }
+
+        if (top - bottom == indices.length) {
+            grow();
+        }
+        int slot = (int) (top++ & mask);
+        indices[slot] = index;
+        values[slot] = value;
+        peakSize = Math.max(peakSize, size());
+    }
+
+    /**
+     * Adds readings[offset..offset + length) in order
+     * Time Complexity: O(k) amortized
+     */
+    public void acceptAll(int[] readings, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            accept(readings[i]);
+        }
+    }
+
+    /**
+     * Ends the stream: every waiting reading is reported as unresolved,
+     * oldest first, and the operator starts over with index 0
+     * Time Complexity: O(stack size)
+     */
+    public void finish() {
+        while (top != bottom) {
+            listener.onUnresolved(indices[(int) (bottom++ & mask)]);
+        }
+        bottom = top = 0;
+        nextIndex = 0;
+    }
+
+    /**
+     * Number of readings still waiting for a larger one
+     */
+    public int size() {
+        return (int) (top - bottom);
+    }
+
+    /**
+     * Largest number of waiting readings seen so far
+     */
+    public int peakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Bytes held by the stack arrays
+     */
+    public long retainedBytes() {
+        return 12L * indices.length;
+    }
+
+    /**
+     * Feeds readings one at a time and in uneven batches and compares the
+     * collected answers with StackPracticeProblems.dailyTemperatures, and the
+     * bounded mode with answers truncated at the horizon
+     */
+    public static void crossCheck(int n, int horizon) {
+        int[] temperatures = new java.util.Random(13).ints(n, 30, 110).toArray();
+        int[] expected = StackPracticeProblems.dailyTemperatures(temperatures);
+
+        int[] streamed = new int[n];
+        Arrays.fill(streamed, -1); // -1 marks readings that never got an answer
+        StreamingNextGreater unbounded = new StreamingNextGreater(new Listener() {
+            @Override
+            public void onResolved(long index, long nextIndex, int nextValue) {
+                streamed[(int) index] = (int) (nextIndex - index);
+            }
+
+            @Override
+            public void onUnresolved(long index) {
+                streamed[(int) index] = 0;
+            }
+        });
+        for (int i = 0; i < n;) {
+            int batch = Math.min(n - i, i % 7); // Batches of 0..6; 0 means a single accept
+            if (batch == 0) {
+                unbounded.accept(temperatures[i++]);
+            } else {
+                unbounded.acceptAll(temperatures, i, batch);
+                i += batch;
+            }
+        }
+        unbounded.finish();
+
+        int[] bounded = new int[n];
+        StreamingNextGreater expiring = new StreamingNextGreater(
+                (index, nextIndex, nextValue) -> bounded[(int) index] = (int) (nextIndex - index), horizon);
+        expiring.acceptAll(temperatures, 0, n);
+        expiring.finish();
+
+        boolean passed = Arrays.equals(expected, streamed) && expiring.peakSize() <= horizon;
+        for (int i = 0; i < n; i++) {
+            passed &= bounded[i] == (expected[i] <= horizon ? expected[i] : 0);
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) {
+        System.out.println("===== Streaming Daily Temperatures =====\n");
+
+        StreamingNextGreater operator = new StreamingNextGreater(new Listener() {
+            @Override
+            public void onResolved(long index, long nextIndex, int nextValue) {
+                System.out.println("day " + index + ": warmer after " + (nextIndex - index) + " day(s) ("
+                        + nextValue + ")");
+            }
+
+            @Override
+            public void onUnresolved(long index) {
+                System.out.println("day " + index + ": no warmer day");
+            }
+        });
+        operator.acceptAll(new int[] { 73, 74, 75, 71 }, 0, 4);
+        operator.accept(69);
+        operator.accept(72);
+        operator.accept(76);
+        operator.accept(73);
+        operator.finish(); // Expected waits: 1, 1, 4, 2, 1, 1, none, none
+
+        System.out.println("\nCross-check on 10^6 readings, horizon 50:");
+        crossCheck(1000000, 50);
+    }
+}
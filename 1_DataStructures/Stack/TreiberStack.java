@@ -0,0 +1,188 @@
+/**
+ * Lock-free stack (Treiber stack)
+ *
+ * The top of the stack is an AtomicReference. Push links a new node in front
+ * of the current top and publishes it with compareAndSet; pop swings the top
+ * to top.next with compareAndSet. If another thread changed the top in
+ * between, the CAS fails and the operation retries.
+ *
+ * Backoff: when many threads hammer the same top reference, retrying at once
+ * mostly produces more failed CAS operations. After each failure a thread
+ * spins for a random number of iterations below a limit that doubles on
+ * every further failure, up to MAX_BACKOFF.
+ *
+ * Memory reclamation: in C/C++ a popped node cannot be freed while another
+ * thread may still read it, and reusing its address causes the ABA problem.
+ * Here nodes are never reused; a popped node becomes garbage only once no
+ * thread holds a reference to it, which the garbage collector guarantees.
+ * Because a new push always allocates a fresh node, a CAS that succeeds
+ * really saw the same node, so ABA cannot happen. The node's data is final,
+ * so a thread that read a stale top still sees a fully initialized node.
+ *
+ * Time Complexity (without contention):
+ * - Push: O(1)
+ * - Pop: O(1)
+ * - Peek: O(1)
+ * - isEmpty: O(1)
+ * - size: O(1)
+ */
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TreiberStack {
+    private static final int MIN_BACKOFF = 1; // Spin limit after the first failed CAS
+    private static final int MAX_BACKOFF = 1024; // Upper bound for the spin limit
+
+    /**
+     * Node class; immutable once pushed
+     */
+    private static class Node {
+        final int data;
+        final Node next;
+
+        Node(int data, Node next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>(); // Top of the stack
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Spins for a random number of iterations below limit and returns the
+     * next, doubled limit
+     */
+    private static int backoff(int limit) {
+        int spins = ThreadLocalRandom.current().nextInt(limit) + 1;
+        for (int i = 0; i < spins; i++) {
+            Thread.onSpinWait();
+        }
+        return Math.min(limit * 2, MAX_BACKOFF);
+    }
+
+    /**
+     * Adds an element to the top of the stack
+     * Time Complexity: O(1)
+     */
+    public void push(int data) {
+        int limit = MIN_BACKOFF;
+        while (true) {
+            Node top = head.get();
+            Node newNode = new Node(data, top);
+            if (head.compareAndSet(top, newNode)) {
+                size.incrementAndGet();
+                return;
+            }
+            limit = backoff(limit);
+        }
+    }
+
+    /**
+     * Removes and returns the top element from the stack
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1)
+     */
+    public int pop() {
+        int limit = MIN_BACKOFF;
+        while (true) {
+            Node top = head.get();
+            if (top == null) {
+                return -1;
+            }
+            if (head.compareAndSet(top, top.next)) {
+                size.decrementAndGet();
+                return top.data;
+            }
+            limit = backoff(limit);
+        }
+    }
+
+    /**
+     * Returns the top element without removing it
+     *
+     * @return The top element if stack is not empty, -1 otherwise
+     * Time Complexity: O(1)
+     */
+    public int peek() {
+        Node top = head.get();
+        return top == null ? -1 : top.data;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Returns the number of elements.
+     * While other threads are pushing or popping this is only a snapshot.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Several threads push distinct values and pop concurrently; checks that
+     * every value is popped exactly once
+     */
+    public static void stressTest(int threads, int perThread) throws InterruptedException {
+        System.out.println("\n===== Stress Test (" + threads + " threads x " + perThread + " values) =====\n");
+
+        TreiberStack stack = new TreiberStack();
+        int total = threads * perThread;
+        java.util.concurrent.atomic.AtomicIntegerArray seen = new java.util.concurrent.atomic.AtomicIntegerArray(
+                total);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                // Push two, pop one, so the stack stays busy but keeps growing
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if (i % 2 == 1) {
+                        int value = stack.pop();
+                        if (value >= 0) {
+                            seen.incrementAndGet(value);
+                        }
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Drain what is left on one thread
+        while (!stack.isEmpty()) {
+            seen.incrementAndGet(stack.pop());
+        }
+
+        int wrong = 0;
+        for (int i = 0; i < total; i++) {
+            if (seen.get(i) != 1) {
+                wrong++;
+            }
+        }
+        System.out.println("Values popped a wrong number of times: " + wrong);
+        System.out.println(wrong == 0 && stack.size() == 0 ? "PASSED" : "FAILED");
+    }
+
+    public static void main(String args[]) throws InterruptedException {
+        System.out.println("===== Lock-free Treiber Stack =====\n");
+
+        TreiberStack stack = new TreiberStack();
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        System.out.println("Top element: " + stack.peek()); // Expected: 3
+        System.out.println("Popped: " + stack.pop()); // Expected: 3
+        System.out.println("Size: " + stack.size()); // Expected: 2
+
+        stressTest(8, 200000);
+    }
+}